@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+
+/**
+ * Query data writer advice.
+ */
+public final class QueryDataWriterAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String FLUSH_TOTAL = "proxy_frontend_flush_total";
+    
+    private static final String STALL_MILLIS_TOTAL = "proxy_frontend_stall_millis_total";
+    
+    static {
+        MetricsReporter.registerCounter(FLUSH_TOTAL, "the shardingsphere proxy frontend flush count total");
+        MetricsReporter.registerCounter(STALL_MILLIS_TOTAL, "the shardingsphere proxy frontend millis total of awaiting unwritable channel");
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        String methodName = method.getName();
+        if (MethodNameConstant.FLUSH.equals(methodName)) {
+            MetricsReporter.counterIncrement(FLUSH_TOTAL);
+        } else if (MethodNameConstant.AWAIT_WRITABLE.equals(methodName)) {
+            target.setAttachment(System.currentTimeMillis());
+        }
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (MethodNameConstant.AWAIT_WRITABLE.equals(method.getName()) && null != target.getAttachment()) {
+            MetricsReporter.counterIncrement(STALL_MILLIS_TOTAL, null, System.currentTimeMillis() - (long) target.getAttachment());
+            target.setAttachment(null);
+        }
+    }
+}
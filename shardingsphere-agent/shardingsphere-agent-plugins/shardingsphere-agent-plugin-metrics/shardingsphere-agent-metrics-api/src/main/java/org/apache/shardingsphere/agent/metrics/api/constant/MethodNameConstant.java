@@ -39,4 +39,8 @@ public final class MethodNameConstant {
     public static final String COMMIT = "commit";
     
     public static final String ROLL_BACK = "rollback";
+    
+    public static final String FLUSH = "flush";
+    
+    public static final String AWAIT_WRITABLE = "awaitWritable";
 }
@@ -42,6 +42,10 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
     
     private static final String TRANSACTION_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.TransactionAdvice";
     
+    private static final String QUERY_DATA_WRITER_ENHANCE_CLASS = "org.apache.shardingsphere.proxy.frontend.command.QueryDataWriter";
+    
+    private static final String QUERY_DATA_WRITER_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.QueryDataWriterAdvice";
+    
     @Override
     public void defineInterceptors() {
         defineInterceptor(COMMAND_EXECUTOR_TASK_ENHANCE_CLASS)
@@ -61,6 +65,10 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
                 .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.COMMIT).or(ElementMatchers.named(MethodNameConstant.ROLL_BACK)))
                 .implement(TRANSACTION_ADVICE_CLASS)
                 .build();
+        defineInterceptor(QUERY_DATA_WRITER_ENHANCE_CLASS)
+                .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.FLUSH).or(ElementMatchers.named(MethodNameConstant.AWAIT_WRITABLE)))
+                .implement(QUERY_DATA_WRITER_ADVICE_CLASS)
+                .build();
     }
     
     @Override
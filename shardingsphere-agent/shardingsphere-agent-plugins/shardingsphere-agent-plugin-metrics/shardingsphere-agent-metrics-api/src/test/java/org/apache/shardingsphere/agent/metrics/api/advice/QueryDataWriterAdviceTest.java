@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.constant.MethodNameConstant;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataWriterAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final QueryDataWriterAdvice queryDataWriterAdvice = new QueryDataWriterAdvice();
+    
+    @Mock
+    private Method flush;
+    
+    @Mock
+    private Method awaitWritable;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertMethod() {
+        when(flush.getName()).thenReturn(MethodNameConstant.FLUSH);
+        when(awaitWritable.getName()).thenReturn(MethodNameConstant.AWAIT_WRITABLE);
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        queryDataWriterAdvice.beforeMethod(targetObject, flush, new Object[]{}, new MethodInvocationResult());
+        queryDataWriterAdvice.afterMethod(targetObject, flush, new Object[]{}, new MethodInvocationResult());
+        queryDataWriterAdvice.beforeMethod(targetObject, awaitWritable, new Object[]{}, new MethodInvocationResult());
+        queryDataWriterAdvice.afterMethod(targetObject, awaitWritable, new Object[]{}, new MethodInvocationResult());
+        Map<String, DoubleAdder> doubleAdderMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        DoubleAdder flushTotal = doubleAdderMap.get("proxy_frontend_flush_total");
+        assertNotNull(flushTotal);
+        assertThat(flushTotal.intValue(), is(1));
+        DoubleAdder stallMillisTotal = doubleAdderMap.get("proxy_frontend_stall_millis_total");
+        assertNotNull(stallMillisTotal);
+        assertTrue(stallMillisTotal.longValue() >= 0L);
+        assertNull(targetObject.getAttachment());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
@@ -29,13 +30,22 @@ import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ *
+ * <p>
+ * Payloads of {@code 0xFFFFFF} bytes or more are split into several packets with consecutive sequence IDs, and are joined again on decoding.
+ * Each frontend connection owns its codec engine, which keeps the number of extra sequence IDs the split packets used in current command phase.
+ * </p>
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
     private static final int PAYLOAD_LENGTH = 3;
     
     private static final int SEQUENCE_LENGTH = 1;
     
+    private int sequenceIdOffset;
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= PAYLOAD_LENGTH + SEQUENCE_LENGTH;
@@ -49,24 +59,88 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + SEQUENCE_LENGTH));
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            sequenceIdOffset = 0;
+            out.add(in.readRetainedSlice(payloadLength + SEQUENCE_LENGTH));
+            return;
+        }
+        in.resetReaderIndex();
+        decodeMultiplePackets(context, in, out);
+    }
+    
+    private void decodeMultiplePackets(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
+        int packetCount = getCompletePacketCount(in);
+        if (0 == packetCount) {
+            return;
+        }
+        CompositeByteBuf result = context.alloc().compositeBuffer(packetCount);
+        result.addComponent(true, in.readRetainedSlice(in.readMediumLE() + SEQUENCE_LENGTH));
+        for (int i = 1; i < packetCount; i++) {
+            int payloadLength = in.readMediumLE();
+            in.skipBytes(SEQUENCE_LENGTH);
+            result.addComponent(true, in.readRetainedSlice(payloadLength));
+        }
+        sequenceIdOffset = packetCount - 1;
+        out.add(result);
+    }
+    
+    private int getCompletePacketCount(final ByteBuf in) {
+        int result = 0;
+        int index = in.readerIndex();
+        int payloadLength = MAX_PAYLOAD_LENGTH;
+        while (MAX_PAYLOAD_LENGTH == payloadLength) {
+            if (in.writerIndex() - index < PAYLOAD_LENGTH + SEQUENCE_LENGTH) {
+                return 0;
+            }
+            payloadLength = in.getMediumLE(index);
+            index += payloadLength + PAYLOAD_LENGTH + SEQUENCE_LENGTH;
+            if (in.writerIndex() < index) {
+                return 0;
+            }
+            result++;
+        }
+        return result;
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer());
+        int headerIndex = out.writerIndex();
+        out.writeZero(PAYLOAD_LENGTH + SEQUENCE_LENGTH);
+        MySQLPacketPayload payload = new MySQLPacketPayload(out);
         try {
             message.write(payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            payload.getByteBuf().resetWriterIndex();
+            out.writerIndex(headerIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH);
             new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, ex.getMessage()).write(payload);
         } finally {
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
-            payload.close();
+            int payloadLength = out.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH;
+            if (payloadLength < MAX_PAYLOAD_LENGTH) {
+                out.setMediumLE(headerIndex, payloadLength);
+                out.setByte(headerIndex + PAYLOAD_LENGTH, message.getSequenceId() + sequenceIdOffset);
+            } else {
+                encodeMultiplePackets(context, message, out, headerIndex, payloadLength);
+            }
+        }
+    }
+    
+    private void encodeMultiplePackets(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out, final int headerIndex, final int payloadLength) {
+        ByteBuf payload = context.alloc().buffer(payloadLength);
+        try {
+            payload.writeBytes(out, headerIndex + PAYLOAD_LENGTH + SEQUENCE_LENGTH, payloadLength);
+            out.writerIndex(headerIndex);
+            int sequenceId = message.getSequenceId() + sequenceIdOffset;
+            int length;
+            do {
+                length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(length);
+                out.writeByte(sequenceId++);
+                out.writeBytes(payload, length);
+            } while (MAX_PAYLOAD_LENGTH == length);
+            sequenceIdOffset = sequenceId - message.getSequenceId() - 1;
+        } finally {
+            payload.release();
         }
     }
     
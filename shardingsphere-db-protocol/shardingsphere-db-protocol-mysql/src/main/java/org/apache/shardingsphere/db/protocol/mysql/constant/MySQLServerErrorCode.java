@@ -50,6 +50,8 @@ public enum MySQLServerErrorCode implements SQLErrorCode {
     
     ER_NO_SUCH_TABLE(1146, "42S02", "Table '%s' doesn't exist"),
     
+    ER_UNKNOWN_STMT_HANDLER(1243, "HY000", "Unknown prepared statement handler (%s) given to %s"),
+    
     ER_NOT_SUPPORTED_YET(1235, "42000", "This version of ShardingProxy doesn't yet support this SQL. '%s'"),
     
     ER_SP_DOES_NOT_EXIST(1305, "42000", "Message: Datasource or ShardingSphere rule does not exist"),
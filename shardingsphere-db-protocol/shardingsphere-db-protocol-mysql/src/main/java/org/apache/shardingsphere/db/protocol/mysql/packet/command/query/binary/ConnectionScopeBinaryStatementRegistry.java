@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection scope binary statement registry.
+ */
+public final class ConnectionScopeBinaryStatementRegistry {
+    
+    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger sequence = new AtomicInteger();
+    
+    /**
+     * Register SQL.
+     *
+     * @param sql SQL
+     * @param parameterCount parameter count
+     * @param sqlStatement SQL statement
+     * @return statement ID
+     */
+    public int register(final String sql, final int parameterCount, final SQLStatement sqlStatement) {
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, new MySQLBinaryStatement(sql, parameterCount, sqlStatement));
+        return result;
+    }
+    
+    /**
+     * Get binary prepared statement.
+     *
+     * @param statementId statement ID
+     * @return binary prepared statement
+     */
+    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
+        return binaryStatements.get(statementId);
+    }
+    
+    /**
+     * Close prepared statement.
+     *
+     * @param statementId statement ID
+     * @return closed binary prepared statement
+     */
+    public MySQLBinaryStatement closeStatement(final int statementId) {
+        return binaryStatements.remove(statementId);
+    }
+}
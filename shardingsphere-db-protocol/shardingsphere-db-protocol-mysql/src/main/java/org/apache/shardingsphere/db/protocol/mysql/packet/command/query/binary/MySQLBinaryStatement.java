@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.List;
 
@@ -35,5 +36,7 @@ public final class MySQLBinaryStatement {
     
     private final int parameterCount;
     
+    private final SQLStatement sqlStatement;
+    
     private List<MySQLBinaryStatementParameterType> parameterTypes;
 }
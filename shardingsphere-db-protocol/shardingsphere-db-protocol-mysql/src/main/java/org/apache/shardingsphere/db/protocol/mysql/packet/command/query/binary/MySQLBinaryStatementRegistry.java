@@ -22,21 +22,16 @@ import lombok.NoArgsConstructor;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MySQL binary prepared statement registry.
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MySQLBinaryStatementRegistry {
     
     private static final MySQLBinaryStatementRegistry INSTANCE = new MySQLBinaryStatementRegistry();
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
-    
-    private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
-    
-    private final AtomicInteger sequence = new AtomicInteger();
+    private final ConcurrentMap<Integer, ConnectionScopeBinaryStatementRegistry> registries = new ConcurrentHashMap<>();
     
     /**
      * Get prepared statement registry instance.
@@ -48,43 +43,30 @@ public final class MySQLBinaryStatementRegistry {
     }
     
     /**
-     * Register SQL.
+     * Register.
      *
-     * @param sql SQL
-     * @param parameterCount parameter count
-     * @return statement ID
+     * @param connectionId connection ID
      */
-    public synchronized int register(final String sql, final int parameterCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new MySQLBinaryStatement(sql, parameterCount));
-        return result;
+    public void register(final int connectionId) {
+        registries.put(connectionId, new ConnectionScopeBinaryStatementRegistry());
     }
     
     /**
-     * Get binary prepared statement.
+     * Unregister.
      *
-     * @param statementId statement ID
-     * @return binary prepared statement
+     * @param connectionId connection ID
      */
-    public MySQLBinaryStatement getBinaryStatement(final int statementId) {
-        return binaryStatements.get(statementId);
+    public void unregister(final int connectionId) {
+        registries.remove(connectionId);
     }
     
     /**
-     * Remove expired cache statement.
+     * Get connection scope binary statement registry.
      *
-     * @param statementId statement ID
+     * @param connectionId connection ID
+     * @return connection scope binary statement registry
      */
-    public synchronized void remove(final int statementId) {
-        MySQLBinaryStatement binaryStatement = getBinaryStatement(statementId);
-        if (null != binaryStatement) {
-            statementIdAssigner.remove(binaryStatement.getSql());
-            binaryStatements.remove(statementId);
-        }
+    public ConnectionScopeBinaryStatementRegistry get(final int connectionId) {
+        return registries.get(connectionId);
     }
 }
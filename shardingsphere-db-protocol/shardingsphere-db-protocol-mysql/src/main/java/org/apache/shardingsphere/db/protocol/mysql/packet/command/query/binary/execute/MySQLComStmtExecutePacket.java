@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatement;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.M
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -61,17 +63,25 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final String sql;
     
+    @Getter
+    private final SQLStatement sqlStatement;
+    
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = MySQLBinaryStatementRegistry.getInstance().get(connectionId).getBinaryStatement(statementId);
+        if (null == binaryStatement) {
+            throw new SQLException(String.format(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorMessage(), statementId, "mysqld_stmt_execute"),
+                    MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getSqlState(), MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode());
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parameterCount = binaryStatement.getParameterCount();
         sql = binaryStatement.getSql();
+        sqlStatement = binaryStatement.getSqlStatement();
         if (parameterCount > 0) {
             nullBitmap = new MySQLNullBitmap(parameterCount, NULL_BITMAP_OFFSET);
             for (int i = 0; i < nullBitmap.getNullBitmap().length; i++) {
@@ -18,12 +18,13 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -34,8 +35,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -85,20 +87,81 @@ public final class MySQLPacketCodecEngineTest {
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDecodeWithMultiplePackets() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(0xFFFFFF).writeByte(0).writeZero(0xFFFFFF);
+        in.writeMediumLE(5).writeByte(1).writeZero(5);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodecEngine().decode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(1));
+        assertThat(((ByteBuf) out.get(0)).readableBytes(), is(1 + 0xFFFFFF + 5));
+        assertFalse(in.isReadable());
+        ((ByteBuf) out.get(0)).release();
+        in.release();
+    }
+    
+    @Test
+    public void assertDecodeWithIncompleteMultiplePackets() {
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(0xFFFFFF).writeByte(0).writeZero(0xFFFFFF);
+        in.writeMediumLE(5).writeByte(1).writeZero(2);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodecEngine().decode(context, in, out, in.readableBytes());
+        assertTrue(out.isEmpty());
+        assertThat(in.readerIndex(), is(0));
+        in.release();
+    }
+    
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, createMessage(1, 50), out);
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.readableBytes(), is(50));
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeWithMultiplePackets() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, createMessage(1, 0xFFFFFF + 10), out);
+        codecEngine.encode(context, createMessage(2, 20), out);
+        assertThat(out.readMediumLE(), is(0xFFFFFF));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        out.skipBytes(0xFFFFFF);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+        out.skipBytes(10);
+        assertThat(out.readMediumLE(), is(20));
+        assertThat(out.readUnsignedByte(), is((short) 3));
+        assertThat(out.readableBytes(), is(20));
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeWithMaxPayloadLength() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, createMessage(1, 0xFFFFFF), out);
+        assertThat(out.readMediumLE(), is(0xFFFFFF));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        out.skipBytes(0xFFFFFF);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+        assertFalse(out.isReadable());
+        out.release();
+    }
+    
+    private MySQLPacket createMessage(final int sequenceId, final int payloadLength) {
+        MySQLPacket result = mock(MySQLPacket.class);
+        when(result.getSequenceId()).thenReturn(sequenceId);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(payloadLength)).when(result).write(any(MySQLPacketPayload.class));
+        return result;
     }
     
     @Test
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ConnectionScopeBinaryStatementRegistryTest {
+    
+    private final String sql = "SELECT * FROM tbl WHERE id=?";
+    
+    @Test
+    public void assertRegister() {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry();
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        assertThat(statementRegistry.register(sql, 1, sqlStatement), is(1));
+        MySQLBinaryStatement actual = statementRegistry.getBinaryStatement(1);
+        assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getParameterCount(), is(1));
+        assertThat(actual.getSqlStatement(), is(sqlStatement));
+    }
+    
+    @Test
+    public void assertRegisterSameSQLTwice() {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry();
+        assertThat(statementRegistry.register(sql, 1, mock(SQLStatement.class)), is(1));
+        assertThat(statementRegistry.register(sql, 1, mock(SQLStatement.class)), is(2));
+        statementRegistry.closeStatement(1);
+        assertNotNull(statementRegistry.getBinaryStatement(2));
+    }
+    
+    @Test
+    public void assertGetBinaryStatementNotExists() {
+        assertNull(new ConnectionScopeBinaryStatementRegistry().getBinaryStatement(1));
+    }
+    
+    @Test
+    public void assertGetAndCloseBinaryStatement() {
+        ConnectionScopeBinaryStatementRegistry statementRegistry = new ConnectionScopeBinaryStatementRegistry();
+        int statementId = statementRegistry.register(sql, 1, mock(SQLStatement.class));
+        MySQLBinaryStatement actual = statementRegistry.getBinaryStatement(statementId);
+        assertNotNull(actual);
+        assertThat(statementRegistry.closeStatement(statementId), is(actual));
+        assertNull(statementRegistry.getBinaryStatement(statementId));
+    }
+}
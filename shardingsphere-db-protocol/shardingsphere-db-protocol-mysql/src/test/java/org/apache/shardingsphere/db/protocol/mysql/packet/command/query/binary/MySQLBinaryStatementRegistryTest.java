@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,39 +25,43 @@ import org.junit.Test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class MySQLBinaryStatementRegistryTest {
     
     private final String sql = "SELECT * FROM tbl WHERE id=?";
     
     @Before
+    public void init() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register(sql, 1, mock(SQLStatement.class));
+    }
+    
     @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        MySQLBinaryStatementRegistry.getInstance().unregister(2);
     }
     
     @Test
     public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParameterCount(), is(1));
+        MySQLBinaryStatementRegistry.getInstance().register(2);
+        ConnectionScopeBinaryStatementRegistry actual = MySQLBinaryStatementRegistry.getInstance().get(2);
+        assertNull(actual.getBinaryStatement(1));
     }
     
     @Test
     public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParameterCount(), is(1));
+        MySQLBinaryStatement statement = MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1);
+        assertThat(statement.getSql(), is(sql));
+        assertThat(statement.getParameterCount(), is(1));
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).getBinaryStatement(1));
     }
     
     @Test
-    public void assertRemoveIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
-        MySQLBinaryStatementRegistry.getInstance().remove(1);
-        MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertNull(actual);
+    public void assertUnregister() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        assertNull(MySQLBinaryStatementRegistry.getInstance().get(1));
     }
 }
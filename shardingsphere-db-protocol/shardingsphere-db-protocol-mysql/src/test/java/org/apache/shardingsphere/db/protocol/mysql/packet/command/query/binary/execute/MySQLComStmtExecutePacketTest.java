@@ -17,9 +17,10 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +33,8 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,17 +46,21 @@ public final class MySQLComStmtExecutePacketTest {
     private MySQLPacketPayload payload;
     
     @Before
+    public void setUp() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        MySQLBinaryStatementRegistry.getInstance().get(1).register("SELECT id FROM tbl WHERE id=?", 1, mock(SQLStatement.class));
+    }
+    
     @After
-    public void reset() {
-        BinaryStatementRegistryUtil.reset();
+    public void tearDown() {
+        MySQLBinaryStatementRegistry.getInstance().unregister(1);
     }
     
     @Test
     public void assertNewWithNotNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.<Object>singletonList(1)));
@@ -61,10 +68,9 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertNewWithNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         assertThat(actual.getSequenceId(), is(0));
         assertThat(actual.getSql(), is("SELECT id FROM tbl WHERE id=?"));
         assertThat(actual.getParameters(), is(Collections.singletonList(null)));
@@ -72,14 +78,27 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertWrite() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
-        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
+        MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload, 1);
         actual.write(payload);
         verify(payload, times(2)).writeInt4(1);
         verify(payload, times(4)).writeInt1(1);
         verify(payload).writeInt1(0);
         verify(payload).writeStringLenenc("");
     }
+    
+    @Test
+    public void assertNewWithClosedStatement() {
+        MySQLBinaryStatementRegistry.getInstance().get(1).closeStatement(1);
+        when(payload.readInt4()).thenReturn(1);
+        try {
+            new MySQLComStmtExecutePacket(payload, 1);
+            fail("Expected SQLException for closed statement");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode()));
+            assertThat(ex.getSQLState(), is(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getSqlState()));
+            assertThat(ex.getMessage(), is("Unknown prepared statement handler (1) given to mysqld_stmt_execute"));
+        }
+    }
 }
@@ -23,6 +23,14 @@ WS
     : [ \t\r\n] + ->skip
     ;
 
+BLOCK_COMMENT
+    : '/*' .*? '*/' ->skip
+    ;
+
+INLINE_COMMENT
+    : (('-- ' | '#') ~[\r\n]* ('\r'? '\n' | EOF) | '--' ('\r'? '\n' | EOF)) ->skip
+    ;
+
 ADD
     : A D D
     ;
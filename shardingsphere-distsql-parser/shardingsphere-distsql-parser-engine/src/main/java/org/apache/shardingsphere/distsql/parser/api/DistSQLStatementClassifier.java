@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.distsql.parser.api;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Dist SQL statement classifier.
+ *
+ * <p>
+ * Judge by the leading two keywords only, so it is cheap enough to be called before any parsing. Whitespaces and comments around keywords are skipped.
+ * A matched SQL is not guaranteed to be valid dist SQL, but every valid dist SQL is matched.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DistSQLStatementClassifier {
+    
+    private static final Map<String, Collection<String>> LEADING_KEYWORDS = new HashMap<>(8, 1);
+    
+    static {
+        Collection<String> ruleTypes = Arrays.asList("SHARDING", "READWRITE_SPLITTING", "DB_DISCOVERY", "ENCRYPT");
+        LEADING_KEYWORDS.put("ADD", Collections.singleton("RESOURCE"));
+        LEADING_KEYWORDS.put("CREATE", new HashSet<>(ruleTypes));
+        LEADING_KEYWORDS.put("ALTER", new HashSet<>(ruleTypes));
+        LEADING_KEYWORDS.put("DROP", createKeywords(ruleTypes, "RESOURCE", "SCALING"));
+        LEADING_KEYWORDS.put("SHOW", createKeywords(ruleTypes, "RESOURCES", "SCALING"));
+        LEADING_KEYWORDS.put("START", Collections.singleton("SCALING"));
+        LEADING_KEYWORDS.put("STOP", Collections.singleton("SCALING"));
+        LEADING_KEYWORDS.put("RESET", Collections.singleton("SCALING"));
+        LEADING_KEYWORDS.put("CHECK", Collections.singleton("SCALING"));
+    }
+    
+    private static Collection<String> createKeywords(final Collection<String> ruleTypes, final String... keywords) {
+        Collection<String> result = new HashSet<>(ruleTypes);
+        result.addAll(Arrays.asList(keywords));
+        return result;
+    }
+    
+    /**
+     * Judge whether SQL may be dist SQL.
+     *
+     * @param sql SQL to be judged
+     * @return SQL may be dist SQL or not
+     */
+    public static boolean isDistSQL(final String sql) {
+        int firstKeywordStartIndex = skipWhitespacesAndComments(sql, 0);
+        int firstKeywordStopIndex = skipKeyword(sql, firstKeywordStartIndex);
+        Collection<String> secondKeywords = LEADING_KEYWORDS.get(sql.substring(firstKeywordStartIndex, firstKeywordStopIndex).toUpperCase());
+        if (null == secondKeywords) {
+            return false;
+        }
+        int secondKeywordStartIndex = skipWhitespacesAndComments(sql, firstKeywordStopIndex);
+        if (secondKeywordStartIndex == firstKeywordStopIndex) {
+            return false;
+        }
+        int secondKeywordStopIndex = skipKeyword(sql, secondKeywordStartIndex);
+        return secondKeywords.contains(sql.substring(secondKeywordStartIndex, secondKeywordStopIndex).toUpperCase());
+    }
+    
+    private static int skipWhitespacesAndComments(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length()) {
+            if (isWhitespace(sql.charAt(result))) {
+                result++;
+            } else if (sql.startsWith("/*", result)) {
+                int commentStopIndex = sql.indexOf("*/", result + 2);
+                result = -1 == commentStopIndex ? sql.length() : commentStopIndex + 2;
+            } else if (sql.startsWith("#", result) || sql.startsWith("-- ", result) || sql.startsWith("--\n", result) || sql.startsWith("--\r", result)) {
+                int lineStopIndex = sql.indexOf('\n', result);
+                result = -1 == lineStopIndex ? sql.length() : lineStopIndex + 1;
+            } else {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\r' == ch || '\n' == ch;
+    }
+    
+    private static int skipKeyword(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && isKeywordCharacter(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isKeywordCharacter(final char ch) {
+        return ch >= 'A' && ch <= 'Z' || ch >= 'a' && ch <= 'z' || '_' == ch;
+    }
+}
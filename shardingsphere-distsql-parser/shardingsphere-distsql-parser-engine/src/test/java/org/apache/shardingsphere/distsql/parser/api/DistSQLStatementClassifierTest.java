@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.distsql.parser.api;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class DistSQLStatementClassifierTest {
+    
+    @Test
+    public void assertIsDistSQL() {
+        assertTrue(DistSQLStatementClassifier.isDistSQL("ADD RESOURCE ds_0(HOST=127.0.0.1,PORT=3306,DB=test0,USER=ROOT)"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("  create sharding table rule t_order (RESOURCES(ds_0))"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("ALTER READWRITE_SPLITTING RULE ms_group_0 (WRITE_RESOURCE=primary_ds)"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("DROP DB_DISCOVERY RULE ha_group_0"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("SHOW\nRESOURCES"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("SHOW ENCRYPT RULES"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("CHECK SCALING JOB 1"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("/* x */ SHOW RESOURCES"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("-- x\nSHOW/* x */RESOURCES"));
+        assertTrue(DistSQLStatementClassifier.isDistSQL("# x\nDROP SHARDING TABLE RULE t_order"));
+    }
+    
+    @Test
+    public void assertIsNotDistSQL() {
+        assertFalse(DistSQLStatementClassifier.isDistSQL(""));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("SELECT * FROM t_order"));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("SHOW TABLES"));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("CREATE TABLE t_order (order_id INT)"));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("DROP RESOURCES"));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("SHOW"));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("SHOWRESOURCES"));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("/* SHOW RESOURCES */ SELECT 1"));
+        assertFalse(DistSQLStatementClassifier.isDistSQL("/* SHOW RESOURCES"));
+    }
+}
@@ -75,6 +75,8 @@ public final class DistSQLStatementParserEngineTest {
     
     private static final String RDL_DROP_RESOURCE = "DROP RESOURCE ds_0,ds_1";
     
+    private static final String RDL_DROP_RESOURCE_WITH_COMMENTS = "/* x */ DROP RESOURCE ds_0, -- x\n ds_1";
+    
     private static final String RDL_CREATE_SHARDING_TABLE_RULE = "CREATE SHARDING TABLE RULE t_order (" 
             + "RESOURCES(ms_group_0,ms_group_1)," 
             + "SHARDING_COLUMN=order_id," 
@@ -236,6 +238,14 @@ public final class DistSQLStatementParserEngineTest {
         assertTrue(((DropResourceStatement) sqlStatement).getResourceNames().containsAll(Arrays.asList("ds_0", "ds_1")));
     }
     
+    @Test
+    public void assertParseDropResourceWithComments() {
+        SQLStatement sqlStatement = engine.parse(RDL_DROP_RESOURCE_WITH_COMMENTS);
+        assertTrue(sqlStatement instanceof DropResourceStatement);
+        assertThat(((DropResourceStatement) sqlStatement).getResourceNames().size(), is(2));
+        assertTrue(((DropResourceStatement) sqlStatement).getResourceNames().containsAll(Arrays.asList("ds_0", "ds_1")));
+    }
+    
     @Test
     public void assertParseCreateShardingTableRule() {
         SQLStatement sqlStatement = engine.parse(RDL_CREATE_SHARDING_TABLE_RULE);
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm for SPI.
  */
@@ -33,6 +36,20 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm, ShardingSpher
      */
     String encrypt(Object plaintext);
     
+    /**
+     * Encode in batch.
+     *
+     * @param plaintexts plaintexts
+     * @return ciphertexts in the same order of plaintexts
+     */
+    default List<String> batchEncrypt(final List<?> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(encrypt(each));
+        }
+        return result;
+    }
+    
     /**
      * Decode.
      *
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.algorithm;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -27,13 +28,12 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -49,9 +49,19 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ThreadLocal<Cipher> encryptCiphers;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ThreadLocal<Cipher> decryptCiphers;
+    
     @Override
     public void init() {
         secretKey = createSecretKey();
+        encryptCiphers = createCiphers(Cipher.ENCRYPT_MODE, secretKey);
+        decryptCiphers = createCiphers(Cipher.DECRYPT_MODE, secretKey);
     }
     
     private byte[] createSecretKey() {
@@ -65,26 +75,56 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        byte[] result = doFinal(encryptCiphers, StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        Cipher cipher = encryptCiphers.get();
+        try {
+            for (Object each : plaintexts) {
+                result.add(null == each ? null : Base64.encodeBase64String(cipher.doFinal(StringUtils.getBytesUtf8(String.valueOf(each)))));
+            }
+        } catch (final GeneralSecurityException ex) {
+            encryptCiphers.remove();
+            throw ex;
+        }
+        return result;
+    }
+    
     @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(ciphertext));
+        byte[] result = doFinal(decryptCiphers, Base64.decodeBase64(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    private ThreadLocal<Cipher> createCiphers(final int cipherMode, final byte[] secretKey) {
+        return ThreadLocal.withInitial(() -> createCipher(cipherMode, secretKey));
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final byte[] secretKey) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
+    private byte[] doFinal(final ThreadLocal<Cipher> ciphers, final byte[] input) throws GeneralSecurityException {
+        try {
+            return ciphers.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            ciphers.remove();
+            throw ex;
+        }
+    }
+    
     @Override
     public String getType() {
         return "AES";
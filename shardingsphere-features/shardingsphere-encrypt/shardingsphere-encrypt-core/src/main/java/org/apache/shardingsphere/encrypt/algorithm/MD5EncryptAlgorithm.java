@@ -19,9 +19,14 @@ package org.apache.shardingsphere.encrypt.algorithm;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -45,6 +50,16 @@ public final class MD5EncryptAlgorithm implements EncryptAlgorithm {
         return DigestUtils.md5Hex(String.valueOf(plaintext));
     }
     
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        MessageDigest messageDigest = DigestUtils.getMd5Digest();
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : Hex.encodeHexString(messageDigest.digest(StringUtils.getBytesUtf8(String.valueOf(each)))));
+        }
+        return result;
+    }
+    
     @Override
     public Object decrypt(final String ciphertext) {
         return ciphertext;
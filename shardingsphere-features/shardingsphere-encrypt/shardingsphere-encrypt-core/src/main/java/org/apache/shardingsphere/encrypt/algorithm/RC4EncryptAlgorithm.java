@@ -25,7 +25,8 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -39,18 +40,27 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     
     private static final int KEY_MIN_LENGTH = 5;
     
-    private byte[] key = new byte[SBOX_LENGTH - 1];
+    private int[] initialSBox;
     
-    private int[] sBox = new int[SBOX_LENGTH];
+    private final ThreadLocal<int[]> sBoxes = ThreadLocal.withInitial(() -> new int[SBOX_LENGTH]);
     
     @Getter
     @Setter
     private Properties props = new Properties();
     
+    /**
+     * Initialize.
+     *
+     * <p>
+     * Former versions reset the key to zero bytes before crypt, so the key stream is scheduled by zero bytes of the key length.
+     * Keep the same key scheduling to decrypt the persisted ciphertext.
+     * </p>
+     */
     @Override
     public void init() {
-        reset();
-        setKey(StringUtils.getBytesUtf8(props.getProperty(RC4_KEY)));
+        byte[] key = StringUtils.getBytesUtf8(props.getProperty(RC4_KEY));
+        checkKey(key);
+        initialSBox = initSBox(new byte[key.length]);
     }
     
     @Override
@@ -58,40 +68,38 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = handle(StringUtils.getBytesUtf8(String.valueOf(plaintext)), key);
+        byte[] result = crypt(StringUtils.getBytesUtf8(String.valueOf(plaintext)), sBoxes.get());
         return Base64.encodeBase64String(result);
     }
     
+    @Override
+    public List<String> batchEncrypt(final List<?> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        int[] sBox = sBoxes.get();
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : Base64.encodeBase64String(crypt(StringUtils.getBytesUtf8(String.valueOf(each)), sBox)));
+        }
+        return result;
+    }
+    
     @Override
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = handle(Base64.decodeBase64(ciphertext), key);
+        byte[] result = crypt(Base64.decodeBase64(ciphertext), sBoxes.get());
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private byte[] handle(final byte[] data, final byte[] key) {
-        reset();
-        setKey(key);
-        byte[] result = crypt(data);
-        reset();
-        return result;
-    }
-    
-    private void reset() {
-        Arrays.fill(key, (byte) 0);
-        Arrays.fill(sBox, 0);
-    }
-    
     /**
-     * Crypt given byte array. Be aware, that you must init key, before using.
+     * Crypt given byte array with a thread confined copy of initialized SBOX.
      * @param message array to be crypt
+     * @param sBox thread confined SBOX to be overwritten
      * @return byte array
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
-    private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+    private byte[] crypt(final byte[] message, final int[] sBox) {
+        System.arraycopy(initialSBox, 0, sBox, 0, SBOX_LENGTH);
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
@@ -132,16 +140,15 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     }
     
     /**
-     * Set key.
+     * Check key.
      *
-     * @param key key to be setup
+     * @param key key to be checked
      * @throws ShardingSphereException if key length is smaller than 5 or bigger than 255
      */
-    private void setKey(final byte[] key) throws ShardingSphereException {
+    private void checkKey(final byte[] key) throws ShardingSphereException {
         if (!(key.length >= KEY_MIN_LENGTH && key.length < SBOX_LENGTH)) {
             throw new ShardingSphereException("Key length has to be between " + KEY_MIN_LENGTH + " and " + (SBOX_LENGTH - 1));
         }
-        this.key = key;
     }
     
     @Override
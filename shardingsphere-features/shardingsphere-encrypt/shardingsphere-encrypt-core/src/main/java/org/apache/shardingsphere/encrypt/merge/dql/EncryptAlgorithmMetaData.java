@@ -54,6 +54,20 @@ public final class EncryptAlgorithmMetaData {
         return findEncryptor(columnIndex, expandProjections);
     }
     
+    /**
+     * Find encryptors of all columns.
+     *
+     * @return encryptors indexed by column index minus one, element is null if column is not encrypted
+     */
+    public EncryptAlgorithm[] findEncryptors() {
+        List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
+        EncryptAlgorithm[] result = new EncryptAlgorithm[expandProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = findEncryptor(i + 1, expandProjections).orElse(null);
+        }
+        return result;
+    }
+    
     private Optional<EncryptAlgorithm> findEncryptor(final int columnIndex, final List<Projection> expandProjections) {
         Projection projection = expandProjections.get(columnIndex - 1);
         if (projection instanceof ColumnProjection) {
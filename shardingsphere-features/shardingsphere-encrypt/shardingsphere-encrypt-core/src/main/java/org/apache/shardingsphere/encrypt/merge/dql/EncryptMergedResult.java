@@ -17,26 +17,26 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Optional;
 
 /**
  * Merged result for encrypt.
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
-    private final EncryptAlgorithmMetaData metaData;
-    
     private final MergedResult mergedResult;
     
-    private final boolean queryWithCipherColumn;
+    private final EncryptAlgorithm[] encryptors;
+    
+    public EncryptMergedResult(final EncryptAlgorithmMetaData metaData, final MergedResult mergedResult, final boolean queryWithCipherColumn) {
+        this.mergedResult = mergedResult;
+        encryptors = queryWithCipherColumn ? metaData.findEncryptors() : new EncryptAlgorithm[0];
+    }
     
     @Override
     public boolean next() throws SQLException {
@@ -45,15 +45,12 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (!queryWithCipherColumn) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(columnIndex);
-        if (!encryptAlgorithm.isPresent()) {
+        EncryptAlgorithm encryptAlgorithm = columnIndex <= encryptors.length ? encryptors[columnIndex - 1] : null;
+        if (null == encryptAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         String ciphertext = (String) mergedResult.getValue(columnIndex, String.class);
-        return null == ciphertext ? null : encryptAlgorithm.get().decrypt(ciphertext);
+        return null == ciphertext ? null : encryptAlgorithm.decrypt(ciphertext);
     }
     
     @Override
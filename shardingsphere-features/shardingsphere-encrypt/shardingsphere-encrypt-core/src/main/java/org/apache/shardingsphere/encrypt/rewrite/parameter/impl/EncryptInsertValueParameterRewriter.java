@@ -24,6 +24,7 @@ import org.apache.shardingsphere.encrypt.spi.QueryAssistedEncryptAlgorithm;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -61,20 +62,38 @@ public final class EncryptInsertValueParameterRewriter extends EncryptParameterR
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder,
                                      final InsertStatementContext insertStatementContext, final EncryptAlgorithm encryptAlgorithm, final String tableName, final String encryptLogicColumnName) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptLogicColumnName);
+        List<Integer> valueIndexes = new ArrayList<>();
+        List<Object> originalValues = new ArrayList<>();
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    encryptInsertValue(
-                            encryptAlgorithm, tableName, parameterIndex, insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex),
-                            standardParameterBuilder, encryptLogicColumnName);
-                }
+            InsertValueContext insertValueContext = insertStatementContext.getInsertValueContexts().get(count);
+            if (!each.isEmpty() && insertValueContext.getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                valueIndexes.add(count);
+                originalValues.add(insertValueContext.getValue(columnIndex));
             }
             count++;
         }
+        if (originalValues.isEmpty()) {
+            return;
+        }
+        List<String> cipherValues = encryptAlgorithm.batchEncrypt(originalValues);
+        boolean hasAssistedQueryColumn = hasAssistedQueryColumn(encryptAlgorithm, tableName, encryptLogicColumnName);
+        boolean hasPlainColumn = getEncryptRule().findPlainColumn(tableName, encryptLogicColumnName).isPresent();
+        for (int i = 0; i < valueIndexes.size(); i++) {
+            int valueIndex = valueIndexes.get(i);
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(valueIndex).getParameterIndex(columnIndex);
+            encryptInsertValue(encryptAlgorithm, parameterIndex, originalValues.get(i), cipherValues.get(i),
+                    parameterBuilder.getParameterBuilders().get(valueIndex), hasAssistedQueryColumn, hasPlainColumn);
+        }
+    }
+
+    private boolean hasAssistedQueryColumn(final EncryptAlgorithm encryptAlgorithm, final String tableName, final String encryptLogicColumnName) {
+        if (encryptAlgorithm instanceof QueryAssistedEncryptAlgorithm) {
+            Optional<String> assistedColumnName = getEncryptRule().findAssistedQueryColumn(tableName, encryptLogicColumnName);
+            Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
+            return true;
+        }
+        return false;
     }
 
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -88,16 +107,14 @@ public final class EncryptInsertValueParameterRewriter extends EncryptParameterR
         return columnNames.indexOf(encryptLogicColumnName);
     }
 
-    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final String tableName, final int parameterIndex,
-                                    final Object originalValue, final StandardParameterBuilder parameterBuilder, final String encryptLogicColumnName) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue));
+    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final int parameterIndex, final Object originalValue, final String cipherValue,
+                                    final StandardParameterBuilder parameterBuilder, final boolean hasAssistedQueryColumn, final boolean hasPlainColumn) {
+        parameterBuilder.addReplacedParameters(parameterIndex, cipherValue);
         Collection<Object> addedParameters = new LinkedList<>();
-        if (encryptAlgorithm instanceof QueryAssistedEncryptAlgorithm) {
-            Optional<String> assistedColumnName = getEncryptRule().findAssistedQueryColumn(tableName, encryptLogicColumnName);
-            Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
+        if (hasAssistedQueryColumn) {
             addedParameters.add(((QueryAssistedEncryptAlgorithm) encryptAlgorithm).queryAssistedEncrypt(originalValue.toString()));
         }
-        if (getEncryptRule().findPlainColumn(tableName, encryptLogicColumnName).isPresent()) {
+        if (hasPlainColumn) {
             addedParameters.add(originalValue);
         }
         if (!addedParameters.isEmpty()) {
@@ -39,9 +39,13 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.Expressi
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -78,9 +82,10 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
     
     private void processPreviousSQLToken(final InsertStatementContext insertStatementContext, final InsertValuesToken insertValuesToken) {
         String tableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
+        Map<String, Map<Integer, String>> literalCipherValues = encryptLiteralValues(tableName, insertStatementContext);
         int count = 0;
         for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
-            encryptToken(insertValuesToken.getInsertValues().get(count), tableName, insertStatementContext, each);
+            encryptToken(insertValuesToken.getInsertValues().get(count), tableName, insertStatementContext, each, literalCipherValues, count);
             count++;
         }
     }
@@ -89,10 +94,13 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
         String tableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
         Collection<InsertValuesSegment> insertValuesSegments = insertStatementContext.getSqlStatement().getValues();
         InsertValuesToken result = new EncryptInsertValuesToken(getStartIndex(insertValuesSegments), getStopIndex(insertValuesSegments));
+        Map<String, Map<Integer, String>> literalCipherValues = encryptLiteralValues(tableName, insertStatementContext);
+        int count = 0;
         for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
             InsertValue insertValueToken = new InsertValue(each.getValueExpressions());
-            encryptToken(insertValueToken, tableName, insertStatementContext, each);
+            encryptToken(insertValueToken, tableName, insertStatementContext, each, literalCipherValues, count);
             result.getInsertValues().add(insertValueToken);
+            count++;
         }
         return result;
     }
@@ -113,19 +121,62 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
         return result;
     }
     
-    private void encryptToken(final InsertValue insertValueToken, final String tableName, final InsertStatementContext insertStatementContext, final InsertValueContext insertValueContext) {
+    private Map<String, Map<Integer, String>> encryptLiteralValues(final String tableName, final InsertStatementContext insertStatementContext) {
+        Map<String, Map<Integer, String>> result = new HashMap<>();
+        Optional<SQLToken> useDefaultInsertColumnsToken = findPreviousSQLToken(UseDefaultInsertColumnsToken.class);
+        Iterator<String> descendingColumnNames = insertStatementContext.getDescendingColumnNames();
+        while (descendingColumnNames.hasNext()) {
+            String columnName = descendingColumnNames.next();
+            Optional<EncryptAlgorithm> encryptor = getEncryptRule().findEncryptor(tableName, columnName);
+            if (encryptor.isPresent()) {
+                int columnIndex = getColumnIndex(useDefaultInsertColumnsToken, insertStatementContext, columnName);
+                encryptLiteralValues(encryptor.get(), insertStatementContext, columnIndex).ifPresent(cipherValues -> result.put(columnName, cipherValues));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<Map<Integer, String>> encryptLiteralValues(final EncryptAlgorithm encryptor, final InsertStatementContext insertStatementContext, final int columnIndex) {
+        List<Integer> valueIndexes = new ArrayList<>(insertStatementContext.getInsertValueContexts().size());
+        List<Object> literalValues = new ArrayList<>(insertStatementContext.getInsertValueContexts().size());
+        int valueIndex = 0;
+        for (InsertValueContext each : insertStatementContext.getInsertValueContexts()) {
+            if (each.getValueExpressions().get(columnIndex) instanceof LiteralExpressionSegment) {
+                valueIndexes.add(valueIndex);
+                literalValues.add(each.getValue(columnIndex));
+            }
+            valueIndex++;
+        }
+        if (literalValues.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> cipherValues = encryptor.batchEncrypt(literalValues);
+        Map<Integer, String> result = new HashMap<>(cipherValues.size(), 1);
+        for (int i = 0; i < cipherValues.size(); i++) {
+            result.put(valueIndexes.get(i), cipherValues.get(i));
+        }
+        return Optional.of(result);
+    }
+    
+    private int getColumnIndex(final Optional<SQLToken> useDefaultInsertColumnsToken, final InsertStatementContext insertStatementContext, final String columnName) {
+        return useDefaultInsertColumnsToken.map(sqlToken -> ((UseDefaultInsertColumnsToken) sqlToken).getColumns().indexOf(columnName))
+                .orElseGet(() -> insertStatementContext.getColumnNames().indexOf(columnName));
+    }
+    
+    private void encryptToken(final InsertValue insertValueToken, final String tableName, final InsertStatementContext insertStatementContext, final InsertValueContext insertValueContext,
+                              final Map<String, Map<Integer, String>> literalCipherValues, final int valueIndex) {
         Optional<SQLToken> useDefaultInsertColumnsToken = findPreviousSQLToken(UseDefaultInsertColumnsToken.class);
         Iterator<String> descendingColumnNames = insertStatementContext.getDescendingColumnNames();
         while (descendingColumnNames.hasNext()) {
             String columnName = descendingColumnNames.next();
             Optional<EncryptAlgorithm> encryptor = getEncryptRule().findEncryptor(tableName, columnName);
             if (encryptor.isPresent()) {
-                int columnIndex = useDefaultInsertColumnsToken.map(sqlToken -> ((UseDefaultInsertColumnsToken) sqlToken).getColumns().indexOf(columnName))
-                        .orElseGet(() -> insertStatementContext.getColumnNames().indexOf(columnName));
+                int columnIndex = getColumnIndex(useDefaultInsertColumnsToken, insertStatementContext, columnName);
                 Object originalValue = insertValueContext.getValue(columnIndex);
                 addPlainColumn(insertValueToken, columnIndex, tableName, columnName, insertValueContext, originalValue);
                 addAssistedQueryColumn(insertValueToken, encryptor.get(), columnIndex, tableName, columnName, insertValueContext, originalValue);
-                setCipherColumn(insertValueToken, encryptor.get(), columnIndex, insertValueContext.getValueExpressions().get(columnIndex), originalValue);
+                String literalCipherValue = literalCipherValues.getOrDefault(columnName, Collections.emptyMap()).get(valueIndex);
+                setCipherColumn(insertValueToken, columnIndex, insertValueContext.getValueExpressions().get(columnIndex), literalCipherValue);
             }
         }
     }
@@ -164,10 +215,9 @@ public final class EncryptInsertValuesTokenGenerator extends BaseEncryptSQLToken
         return result;
     }
     
-    private void setCipherColumn(final InsertValue insertValueToken,
-                                 final EncryptAlgorithm encryptAlgorithm, final int columnIndex, final ExpressionSegment valueExpression, final Object originalValue) {
+    private void setCipherColumn(final InsertValue insertValueToken, final int columnIndex, final ExpressionSegment valueExpression, final String cipherValue) {
         if (valueExpression instanceof LiteralExpressionSegment) {
-            insertValueToken.getValues().set(columnIndex, new LiteralExpressionSegment(valueExpression.getStartIndex(), valueExpression.getStopIndex(), encryptAlgorithm.encrypt(originalValue)));
+            insertValueToken.getValues().set(columnIndex, new LiteralExpressionSegment(valueExpression.getStartIndex(), valueExpression.getStopIndex(), cipherValue));
         }
     }
 }
@@ -24,11 +24,15 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class AESEncryptAlgorithmTest {
     
@@ -58,6 +62,11 @@ public final class AESEncryptAlgorithmTest {
         assertThat(encryptAlgorithm.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
     }
     
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
     @Test
     public void assertEncryptWithNullPlaintext() {
         assertNull(encryptAlgorithm.encrypt(null));
@@ -76,6 +85,25 @@ public final class AESEncryptAlgorithmTest {
         assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertEncryptAndDecryptRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(encryptAlgorithm.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+            assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+        }
+    }
+    
+    @Test
+    public void assertDecryptAfterInvalidCiphertext() {
+        try {
+            encryptAlgorithm.decrypt("dSpP");
+            fail("Expected invalid ciphertext failure.");
+        } catch (final Exception ex) {
+            assertTrue(ex instanceof GeneralSecurityException);
+        }
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
+    
     @Test
     public void assertDecryptWithNullCiphertext() {
         assertNull(encryptAlgorithm.decrypt(null));
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +52,11 @@ public final class RC4EncryptAlgorithmTest {
         assertThat(encryptAlgorithm.encrypt("test"), is("qn36NQ=="));
     }
     
+    @Test
+    public void assertBatchEncrypt() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("qn36NQ==", null, "qn36NQ==")));
+    }
+    
     @Test
     public void assertEncryptWithNullPlaintext() {
         assertNull(encryptAlgorithm.encrypt(null));
@@ -73,6 +79,14 @@ public final class RC4EncryptAlgorithmTest {
         assertThat(encryptAlgorithm.decrypt("qn36NQ==").toString(), is("test"));
     }
     
+    @Test
+    public void assertEncryptAndDecryptRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(encryptAlgorithm.encrypt("test"), is("qn36NQ=="));
+            assertThat(encryptAlgorithm.decrypt("qn36NQ==").toString(), is("test"));
+        }
+    }
+    
     @Test
     public void assertDecryptWithNullCiphertext() {
         assertNull(encryptAlgorithm.decrypt(null));
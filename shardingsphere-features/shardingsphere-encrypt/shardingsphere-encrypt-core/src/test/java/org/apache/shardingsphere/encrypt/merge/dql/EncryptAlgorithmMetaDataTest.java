@@ -42,6 +42,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -108,4 +109,15 @@ public final class EncryptAlgorithmMetaDataTest {
         Optional<EncryptAlgorithm> actualEncryptor = encryptAlgorithmMetaData.findEncryptor(1);
         assertFalse(actualEncryptor.isPresent());
     }
+    
+    @Test
+    public void assertFindEncryptors() {
+        when(projectionsContext.getExpandProjections()).thenReturn(Arrays.asList(columnProjection, mock(DerivedProjection.class)));
+        when(tablesContext.findTableName(columnProjection, schema)).thenReturn(Optional.of("t_order"));
+        when(encryptRule.findEncryptor("t_order", "id")).thenReturn(Optional.of(encryptAlgorithm));
+        EncryptAlgorithm[] actual = new EncryptAlgorithmMetaData(schema, encryptRule, selectStatementContext).findEncryptors();
+        assertThat(actual.length, is(2));
+        assertThat(actual[0], is(encryptAlgorithm));
+        assertNull(actual[1]);
+    }
 }
@@ -28,7 +28,6 @@ import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -48,7 +47,7 @@ public final class EncryptMergedResultTest {
     
     @Test
     public void assertNext() throws SQLException {
-        assertFalse(new EncryptMergedResult(metaData, mergedResult, true).next());
+        assertFalse(createEncryptMergedResult().next());
     }
     
     @Test
@@ -60,8 +59,7 @@ public final class EncryptMergedResultTest {
     @Test
     public void assertGetValueWithQueryWithCipherColumnAndMismatchedEncryptor() throws SQLException {
         when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
-        when(metaData.findEncryptor(1)).thenReturn(Optional.empty());
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getValue(1, String.class), is("VALUE"));
+        assertThat(createEncryptMergedResult((EncryptAlgorithm) null).getValue(1, String.class), is("VALUE"));
     }
     
     @Test
@@ -69,33 +67,42 @@ public final class EncryptMergedResultTest {
         when(mergedResult.getValue(1, String.class)).thenReturn("VALUE");
         EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
         when(encryptAlgorithm.decrypt("VALUE")).thenReturn("ORIGINAL_VALUE");
-        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getValue(1, String.class), is("ORIGINAL_VALUE"));
+        assertThat(createEncryptMergedResult(encryptAlgorithm).getValue(1, String.class), is("ORIGINAL_VALUE"));
     }
     
     @Test
     public void assertGetValueWithQueryWithCipherColumnAndMatchedEncryptorWithNullCiphertext() throws SQLException {
         EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
-        when(metaData.findEncryptor(1)).thenReturn(Optional.of(encryptAlgorithm));
-        assertNull(new EncryptMergedResult(metaData, mergedResult, true).getValue(1, String.class));
+        assertNull(createEncryptMergedResult(encryptAlgorithm).getValue(1, String.class));
+    }
+    
+    @Test
+    public void assertGetValueWithQueryWithCipherColumnAndColumnIndexOutOfEncryptors() throws SQLException {
+        when(mergedResult.getValue(2, String.class)).thenReturn("VALUE");
+        assertThat(createEncryptMergedResult(mock(EncryptAlgorithm.class)).getValue(2, String.class), is("VALUE"));
     }
     
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
         when(mergedResult.getCalendarValue(1, Date.class, calendar)).thenReturn(new Date(0L));
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
+        assertThat(createEncryptMergedResult().getCalendarValue(1, Date.class, calendar), is(new Date(0L)));
     }
     
     @Test
     public void assertGetInputStream() throws SQLException {
         InputStream inputStream = mock(InputStream.class);
         when(mergedResult.getInputStream(1, "asc")).thenReturn(inputStream);
-        assertThat(new EncryptMergedResult(metaData, mergedResult, true).getInputStream(1, "asc"), is(inputStream));
+        assertThat(createEncryptMergedResult().getInputStream(1, "asc"), is(inputStream));
     }
     
     @Test
     public void assertWasNull() throws SQLException {
-        assertFalse(new EncryptMergedResult(metaData, mergedResult, true).wasNull());
+        assertFalse(createEncryptMergedResult().wasNull());
+    }
+    
+    private EncryptMergedResult createEncryptMergedResult(final EncryptAlgorithm... encryptors) {
+        when(metaData.findEncryptors()).thenReturn(encryptors);
+        return new EncryptMergedResult(metaData, mergedResult, true);
     }
 }
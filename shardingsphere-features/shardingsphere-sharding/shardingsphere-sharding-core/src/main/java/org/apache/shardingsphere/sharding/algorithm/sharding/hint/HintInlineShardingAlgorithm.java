@@ -18,10 +18,9 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.hint;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression;
 import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
@@ -41,7 +40,7 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     
     private static final String HINT_INLINE_VALUE_PROPERTY_NAME = "value";
     
-    private String algorithmExpression;
+    private CompiledInlineExpression algorithmExpression;
     
     @Getter
     @Setter
@@ -51,7 +50,7 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     public void init() {
         String expression = properties.getProperty(ALGORITHM_EXPRESSION_KEY, DEFAULT_ALGORITHM_EXPRESSION);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
+        algorithmExpression = new CompiledInlineExpression(InlineExpressionParser.handlePlaceHolder(expression.trim()));
     }
     
     @Override
@@ -60,15 +59,7 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     }
     
     private String doSharding(final Comparable<?> shardingValue) {
-        Closure<?> closure = createClosure();
-        closure.setProperty(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
-        return closure.call().toString();
-    }
-    
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
+        return algorithmExpression.evaluate(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
     }
     
     @Override
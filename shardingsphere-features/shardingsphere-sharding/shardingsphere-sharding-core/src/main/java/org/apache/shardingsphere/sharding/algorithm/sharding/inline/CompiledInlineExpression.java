@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Expressions of the common shapes {@code prefix_${column}} and {@code prefix_${column % N}} are parsed once into fragments and evaluated without Groovy.
+ * Other expressions, or values which the fragments cannot render exactly as Groovy does, fall back to a thread confined Groovy closure.
+ * </p>
+ */
+public final class CompiledInlineExpression {
+    
+    private static final Pattern SIMPLE_SEGMENT_PATTERN = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)(\\s*%\\s*(\\d{1,18}))?");
+    
+    private final String inlineExpression;
+    
+    private final List<ExpressionFragment> fragments;
+    
+    private final ThreadLocal<Closure<?>> closures;
+    
+    public CompiledInlineExpression(final String inlineExpression) {
+        this.inlineExpression = inlineExpression;
+        fragments = compile(inlineExpression);
+        closures = ThreadLocal.withInitial(this::createClosure);
+    }
+    
+    private static List<ExpressionFragment> compile(final String inlineExpression) {
+        List<ExpressionFragment> result = new LinkedList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int segmentStartIndex = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, -1 == segmentStartIndex ? inlineExpression.length() : segmentStartIndex);
+            if (!isSimpleLiteral(literal)) {
+                return Collections.emptyList();
+            }
+            if (!literal.isEmpty()) {
+                result.add(new LiteralFragment(literal));
+            }
+            if (-1 == segmentStartIndex) {
+                break;
+            }
+            int segmentStopIndex = inlineExpression.indexOf('}', segmentStartIndex);
+            if (-1 == segmentStopIndex) {
+                return Collections.emptyList();
+            }
+            ExpressionFragment segment = compileSegment(inlineExpression.substring(segmentStartIndex + 2, segmentStopIndex).trim());
+            if (null == segment) {
+                return Collections.emptyList();
+            }
+            result.add(segment);
+            index = segmentStopIndex + 1;
+        }
+        return result;
+    }
+    
+    private static boolean isSimpleLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('{') && -1 == literal.indexOf('}');
+    }
+    
+    private static ExpressionFragment compileSegment(final String segment) {
+        Matcher matcher = SIMPLE_SEGMENT_PATTERN.matcher(segment);
+        if (!matcher.matches()) {
+            return null;
+        }
+        if (null == matcher.group(3)) {
+            return new VariableFragment(matcher.group(1));
+        }
+        long divisor = Long.parseLong(matcher.group(3));
+        return 0L == divisor ? null : new ModuloFragment(matcher.group(1), divisor);
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result;
+    }
+    
+    /**
+     * Judge whether inline expression is compiled.
+     *
+     * @return inline expression is compiled or not
+     */
+    public boolean isCompiled() {
+        return !fragments.isEmpty();
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result
+     */
+    public String evaluate(final String variableName, final Comparable<?> value) {
+        if (isCompiled()) {
+            StringBuilder result = new StringBuilder(inlineExpression.length());
+            if (appendFragments(result, variableName, value)) {
+                return result.toString();
+            }
+        }
+        return evaluateWithClosure(variableName, value);
+    }
+    
+    private boolean appendFragments(final StringBuilder builder, final String variableName, final Comparable<?> value) {
+        for (ExpressionFragment each : fragments) {
+            if (!each.append(builder, variableName, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String evaluateWithClosure(final String variableName, final Comparable<?> value) {
+        Closure<?> closure = closures.get();
+        closure.setProperty(variableName, value);
+        return closure.call().toString();
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private interface ExpressionFragment {
+        
+        boolean append(StringBuilder builder, String variableName, Comparable<?> value);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralFragment implements ExpressionFragment {
+        
+        private final String literal;
+        
+        @Override
+        public boolean append(final StringBuilder builder, final String variableName, final Comparable<?> value) {
+            builder.append(literal);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableFragment implements ExpressionFragment {
+        
+        private final String name;
+        
+        @Override
+        public boolean append(final StringBuilder builder, final String variableName, final Comparable<?> value) {
+            if (!name.equals(variableName) || !(value instanceof String || isIntegral(value))) {
+                return false;
+            }
+            builder.append(value);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ModuloFragment implements ExpressionFragment {
+        
+        private final String name;
+        
+        private final long divisor;
+        
+        @Override
+        public boolean append(final StringBuilder builder, final String variableName, final Comparable<?> value) {
+            if (!name.equals(variableName) || !isIntegral(value)) {
+                return false;
+            }
+            builder.append(((Number) value).longValue() % divisor);
+            return true;
+        }
+    }
+}
@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
@@ -38,6 +36,8 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private static final String ALLOW_RANGE_QUERY_KEY = "allow-range-query-with-inline-sharding";
     
+    private CompiledInlineExpression algorithmExpression;
+    
     private boolean allowRangeQuery;
     
     @Getter
@@ -46,16 +46,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public void init() {
+        algorithmExpression = createAlgorithmExpression();
         allowRangeQuery = isAllowRangeQuery();
     }
     
-    private Closure<?> createClosure() {
+    private CompiledInlineExpression createAlgorithmExpression() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
+        return new CompiledInlineExpression(InlineExpressionParser.handlePlaceHolder(expression.trim()));
     }
     
     private boolean isAllowRangeQuery() {
@@ -64,9 +62,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
-        closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return closure.call().toString();
+        return algorithmExpression.evaluate(shardingValue.getColumnName(), shardingValue.getValue());
     }
     
     @Override
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.merge.dql.iterator;
 
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending.CompletionOrderIterator;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 
 import java.sql.SQLException;
@@ -32,7 +33,7 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
     private final Iterator<QueryResult> queryResults;
     
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
-        this.queryResults = queryResults.iterator();
+        this.queryResults = new CompletionOrderIterator(queryResults);
         setCurrentQueryResult(this.queryResults.next());
     }
     
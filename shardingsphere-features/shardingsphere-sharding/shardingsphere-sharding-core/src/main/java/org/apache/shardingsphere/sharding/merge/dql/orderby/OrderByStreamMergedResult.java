@@ -22,11 +22,13 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending.CompletionOrderIterator;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
@@ -52,7 +54,9 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     }
     
     private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        for (QueryResult each : queryResults) {
+        Iterator<QueryResult> completedQueryResults = new CompletionOrderIterator(queryResults);
+        while (completedQueryResults.hasNext()) {
+            QueryResult each = completedQueryResults.next();
             OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
             if (orderByValue.next()) {
                 orderByValuesQueue.offer(orderByValue);
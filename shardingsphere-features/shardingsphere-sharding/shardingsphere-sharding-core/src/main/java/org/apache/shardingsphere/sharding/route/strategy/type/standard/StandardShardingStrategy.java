@@ -36,17 +36,18 @@ import java.util.TreeSet;
 /**
  * Standard sharding strategy.
  */
+@Getter
 public final class StandardShardingStrategy implements ShardingStrategy {
     
-    private final String shardingColumn;
+    private final Collection<String> shardingColumns;
     
-    @Getter
     private final StandardShardingAlgorithm<?> shardingAlgorithm;
     
     public StandardShardingStrategy(final String shardingColumn, final StandardShardingAlgorithm<?> shardingAlgorithm) {
         Preconditions.checkNotNull(shardingColumn, "Sharding column cannot be null.");
         Preconditions.checkNotNull(shardingAlgorithm, "sharding algorithm cannot be null.");
-        this.shardingColumn = shardingColumn;
+        shardingColumns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        shardingColumns.add(shardingColumn);
         this.shardingAlgorithm = shardingAlgorithm;
     }
     
@@ -80,11 +81,4 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return shardingAlgorithm.doSharding(availableTargetNames,
                 new RangeShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), shardingValue.getValueRange()));
     }
-    
-    @Override
-    public Collection<String> getShardingColumns() {
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.add(shardingColumn);
-        return result;
-    }
 }
@@ -23,6 +23,7 @@ import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -48,6 +49,9 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.single.SingleTableRule;
 import org.apache.shardingsphere.sharding.rule.single.SingleTableRuleLoader;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
@@ -56,6 +60,7 @@ import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -98,6 +103,27 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     
     private final KeyGenerateAlgorithm defaultKeyGenerateAlgorithm;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final ShardingStrategy defaultDatabaseShardingStrategy;
+    
+    @Getter(AccessLevel.NONE)
+    private final ShardingStrategy defaultTableShardingStrategy;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<TableRule, ShardingStrategy> databaseShardingStrategies;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<TableRule, ShardingStrategy> tableShardingStrategies;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(null != dataSourceMap && !dataSourceMap.isEmpty(), "Data sources cannot be empty.");
         dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceMap.keySet());
@@ -105,11 +131,18 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         config.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, KeyGenerateAlgorithm.class)));
         tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         broadcastTables = config.getBroadcastTables();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicBindingTableRules = createLogicBindingTableRules(bindingTableRules);
         singleTableRules = SingleTableRuleLoader.load(databaseType, dataSourceMap, getExcludedTables());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
+        defaultDatabaseShardingStrategy = createShardingStrategy(defaultDatabaseShardingStrategyConfig);
+        defaultTableShardingStrategy = createShardingStrategy(defaultTableShardingStrategyConfig);
+        databaseShardingStrategies = createShardingStrategies(tableRules, TableRule::getDatabaseShardingStrategyConfig);
+        tableShardingStrategies = createShardingStrategies(tableRules, TableRule::getTableShardingStrategyConfig);
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         ShardingSphereEventBus.getInstance().register(this);
@@ -122,11 +155,18 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         keyGenerators.putAll(config.getKeyGenerators());
         tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         broadcastTables = config.getBroadcastTables();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicBindingTableRules = createLogicBindingTableRules(bindingTableRules);
         singleTableRules = SingleTableRuleLoader.load(databaseType, dataSourceMap, getExcludedTables());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
+        defaultDatabaseShardingStrategy = createShardingStrategy(defaultDatabaseShardingStrategyConfig);
+        defaultTableShardingStrategy = createShardingStrategy(defaultTableShardingStrategyConfig);
+        databaseShardingStrategies = createShardingStrategies(tableRules, TableRule::getDatabaseShardingStrategyConfig);
+        tableShardingStrategies = createShardingStrategies(tableRules, TableRule::getTableShardingStrategyConfig);
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
     }
@@ -175,6 +215,50 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return Optional.ofNullable(defaultKeyGenerateStrategyConfig).map(KeyGenerateStrategyConfiguration::getColumn).orElse(null);
     }
     
+    private Map<TableRule, ShardingStrategy> createShardingStrategies(final Collection<TableRule> tableRules, final Function<TableRule, ShardingStrategyConfiguration> shardingStrategyConfigFunction) {
+        Map<TableRule, ShardingStrategy> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            ShardingStrategyConfiguration shardingStrategyConfig = shardingStrategyConfigFunction.apply(each);
+            if (null != shardingStrategyConfig) {
+                result.put(each, createShardingStrategy(shardingStrategyConfig));
+            }
+        }
+        return result;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()));
+    }
+    
+    private Map<String, TableRule> createLogicTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            result.putIfAbsent(each.getLogicTable().toLowerCase(), each);
+        }
+        return result;
+    }
+    
+    private Map<String, TableRule> createActualTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createLogicBindingTableRules(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (TableRule tableRule : each.getTableRules()) {
+                result.putIfAbsent(tableRule.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
     private Collection<BindingTableRule> createBindingTableRules(final Collection<String> bindingTableGroups) {
         return bindingTableGroups.stream().map(this::createBindingTableRule).collect(Collectors.toList());
     }
@@ -210,6 +294,34 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return null == tableRule.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : tableRule.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy.
+     *
+     * @param tableRule table rule
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final TableRule tableRule) {
+        return getShardingStrategy(tableRule.getDatabaseShardingStrategyConfig(), databaseShardingStrategies.get(tableRule), defaultDatabaseShardingStrategy);
+    }
+    
+    /**
+     * Get table sharding strategy.
+     *
+     * @param tableRule table rule
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final TableRule tableRule) {
+        return getShardingStrategy(tableRule.getTableShardingStrategyConfig(), tableShardingStrategies.get(tableRule), defaultTableShardingStrategy);
+    }
+    
+    private ShardingStrategy getShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig,
+                                                 final ShardingStrategy cachedShardingStrategy, final ShardingStrategy defaultShardingStrategy) {
+        if (null == shardingStrategyConfig) {
+            return defaultShardingStrategy;
+        }
+        return null == cachedShardingStrategy ? createShardingStrategy(shardingStrategyConfig) : cachedShardingStrategy;
+    }
+    
     /**
      * Find table rule.
      *
@@ -217,7 +329,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName)).findFirst();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -227,7 +339,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        return tableRules.stream().filter(each -> each.isExisted(actualTableName)).findFirst();
+        return Optional.ofNullable(actualTableRules.get(actualTableName));
     }
     
     /**
@@ -277,7 +389,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return bindingTableRules.stream().filter(each -> each.hasLogicTable(logicTableName)).findFirst();
+        return Optional.ofNullable(logicBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -377,7 +489,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName));
+        return findTableRule(tableName).filter(each -> isShardingColumn(each, columnName)).isPresent();
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -402,7 +514,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return is generate key column or not
      */
     public boolean isGenerateKeyColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isGenerateKeyColumn(each, columnName));
+        return findTableRule(tableName).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
     }
     
     private boolean isGenerateKeyColumn(final TableRule tableRule, final String columnName) {
@@ -417,8 +529,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName) && each.getGenerateKeyColumn().isPresent())
-                .map(TableRule::getGenerateKeyColumn).findFirst().orElse(Optional.empty());
+        return findTableRule(logicTableName).flatMap(TableRule::getGenerateKeyColumn);
     }
     
     /**
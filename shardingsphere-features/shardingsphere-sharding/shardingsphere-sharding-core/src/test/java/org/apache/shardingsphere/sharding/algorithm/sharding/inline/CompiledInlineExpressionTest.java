@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateModuloExpression() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("t_order_${order_id % 4}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate("order_id", 5), is("t_order_1"));
+        assertThat(actual.evaluate("order_id", 7L), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateModuloExpressionWithWhitespaces() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("ds_${ user_id%2 }_suffix");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate("user_id", 3), is("ds_1_suffix"));
+    }
+    
+    @Test
+    public void assertEvaluateNegativeModuloExpressionSameAsGroovy() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("t_order_${order_id % 4}");
+        assertThat(actual.evaluate("order_id", -5), is("t_order_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateVariableExpression() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("t_order_${order_type}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate("order_type", "vip"), is("t_order_vip"));
+    }
+    
+    @Test
+    public void assertEvaluateLiteralExpression() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("t_user");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate("user_id", 1), is("t_user"));
+    }
+    
+    @Test
+    public void assertEvaluateComplexExpressionWithGroovy() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("t_order_${order_id.hashCode() % 4}");
+        assertFalse(actual.isCompiled());
+        assertThat(actual.evaluate("order_id", 6), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateUnsupportedValueTypeWithGroovy() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("t_order_${order_id % 4}");
+        assertTrue(actual.isCompiled());
+        assertThat(actual.evaluate("order_id", BigInteger.valueOf(6L)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateUnknownVariableWithGroovy() {
+        CompiledInlineExpression actual = new CompiledInlineExpression("t_order_${order_id}");
+        assertThat(actual.evaluate("user_id", 1), is("t_order_null"));
+    }
+}
@@ -30,6 +30,9 @@ import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfi
 import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerateStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.single.SingleTableRule;
 import org.junit.Test;
 
@@ -39,10 +42,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -85,6 +90,11 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRule("other_Table").isPresent());
     }
     
+    @Test
+    public void assertNotFindTableRuleWithNullLogicTable() {
+        assertFalse(createMaximumShardingRule().findTableRule(null).isPresent());
+    }
+    
     @Test
     public void assertFindTableRuleByActualTable() {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
@@ -95,6 +105,13 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableOfSubTable() {
+        Optional<TableRule> actual = createMaximumShardingRule().findTableRuleByActualTable("sub_table_1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("sub_logic_table"));
+    }
+    
     @Test
     public void assertFindLogicTableByActualTable() {
         assertTrue(createMaximumShardingRule().findLogicTableByActualTable("table_0").isPresent());
@@ -122,6 +139,29 @@ public final class ShardingRuleTest {
         createMinimumShardingRule().getTableRule("New_Table");
     }
     
+    @Test
+    public void assertGetDatabaseShardingStrategyWithDefaultStrategy() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        TableRule tableRule = shardingRule.getTableRule("logic_table");
+        ShardingStrategy actual = shardingRule.getDatabaseShardingStrategy(tableRule);
+        assertThat(actual, instanceOf(StandardShardingStrategy.class));
+        assertThat(actual.getShardingColumns().iterator().next(), is("ds_id"));
+        assertThat(shardingRule.getDatabaseShardingStrategy(shardingRule.getTableRule("sub_logic_table")), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetTableShardingStrategyWithTableRuleStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithTableStrategies());
+        shardingRuleConfig.getShardingAlgorithms().put("standard", new ShardingSphereAlgorithmConfiguration("STANDARD_TEST", new Properties()));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, mock(DatabaseType.class), createDataSourceMap());
+        TableRule tableRule = shardingRule.getTableRule("logic_table");
+        ShardingStrategy actual = shardingRule.getTableShardingStrategy(tableRule);
+        assertThat(actual, instanceOf(StandardShardingStrategy.class));
+        assertThat(shardingRule.getTableShardingStrategy(tableRule), sameInstance(actual));
+        assertThat(shardingRule.getDatabaseShardingStrategy(tableRule), instanceOf(NoneShardingStrategy.class));
+    }
+    
     @Test
     public void assertIsAllBindingTableWhenLogicTablesIsEmpty() {
         assertFalse(createMaximumShardingRule().isAllBindingTables(Collections.emptyList()));
@@ -161,6 +201,7 @@ public final class ShardingRuleTest {
         ShardingRule actual = createMaximumShardingRule();
         assertTrue(actual.findBindingTableRule("logic_Table").isPresent());
         assertThat(actual.findBindingTableRule("logic_Table").get().getTableRules().size(), is(2));
+        assertTrue(actual.findBindingTableRule("SUB_LOGIC_TABLE").isPresent());
     }
     
     @Test
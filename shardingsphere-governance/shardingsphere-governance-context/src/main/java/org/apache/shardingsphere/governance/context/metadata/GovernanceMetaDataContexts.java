@@ -48,8 +48,11 @@ import org.apache.shardingsphere.infra.lock.InnerLockReleasedEvent;
 import org.apache.shardingsphere.infra.lock.LockNameUtil;
 import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUsers;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
@@ -64,13 +67,15 @@ import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -80,13 +85,15 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     
     private final GovernanceFacade governanceFacade;
     
-    private volatile StandardMetaDataContexts metaDataContexts;
+    private final AtomicReference<StandardMetaDataContexts> metaDataContexts;
+    
+    private final Map<String, Object> schemaLocks = new ConcurrentHashMap<>();
     
     private final ShardingSphereLock lock;
     
     public GovernanceMetaDataContexts(final StandardMetaDataContexts metaDataContexts, final GovernanceFacade governanceFacade) {
         this.governanceFacade = governanceFacade;
-        this.metaDataContexts = metaDataContexts;
+        this.metaDataContexts = new AtomicReference<>(metaDataContexts);
         ShardingSphereEventBus.getInstance().register(this);
         disableDataSources();
         persistMetaData();
@@ -94,7 +101,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     }
     
     private void disableDataSources() {
-        metaDataContexts.getMetaDataMap().forEach((key, value)
+        metaDataContexts.get().getMetaDataMap().forEach((key, value)
             -> value.getRuleMetaData().getRules().stream().filter(each -> each instanceof StatusContainedRule).forEach(each -> disableDataSources(key, (StatusContainedRule) each)));
     }
     
@@ -108,53 +115,53 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     }
     
     private void persistMetaData() {
-        metaDataContexts.getMetaDataMap().forEach((key, value) -> governanceFacade.getRegistryCenter().getSchemaService().persist(key, value.getSchema()));
+        metaDataContexts.get().getMetaDataMap().forEach((key, value) -> governanceFacade.getRegistryCenter().getSchemaService().persist(key, value.getSchema()));
     }
     
     private ShardingSphereLock createShardingSphereLock() {
-        return metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.LOCK_ENABLED)
-                ? new ShardingSphereDistributeLock(governanceFacade.getRegistryCenterRepository(), metaDataContexts.getProps().<Long>getValue(ConfigurationPropertyKey.LOCK_WAIT_TIMEOUT_MILLISECONDS))
-                : null;
+        ConfigurationProperties props = metaDataContexts.get().getProps();
+        return props.<Boolean>getValue(ConfigurationPropertyKey.LOCK_ENABLED)
+                ? new ShardingSphereDistributeLock(governanceFacade.getRegistryCenterRepository(), props.<Long>getValue(ConfigurationPropertyKey.LOCK_WAIT_TIMEOUT_MILLISECONDS)) : null;
     }
     
     @Override
     public Collection<String> getAllSchemaNames() {
-        return metaDataContexts.getAllSchemaNames();
+        return metaDataContexts.get().getAllSchemaNames();
     }
     
     @Override
     public Map<String, ShardingSphereMetaData> getMetaDataMap() {
-        return metaDataContexts.getMetaDataMap();
+        return metaDataContexts.get().getMetaDataMap();
     }
     
     @Override
     public ShardingSphereMetaData getMetaData(final String schemaName) {
-        return metaDataContexts.getMetaData(schemaName);
+        return metaDataContexts.get().getMetaData(schemaName);
     }
     
     @Override
     public ShardingSphereMetaData getDefaultMetaData() {
-        return metaDataContexts.getDefaultMetaData();
+        return metaDataContexts.get().getDefaultMetaData();
     }
     
     @Override
     public ShardingSphereRuleMetaData getGlobalRuleMetaData() {
-        return metaDataContexts.getGlobalRuleMetaData();
+        return metaDataContexts.get().getGlobalRuleMetaData();
     }
     
     @Override
     public ExecutorEngine getExecutorEngine() {
-        return metaDataContexts.getExecutorEngine();
+        return metaDataContexts.get().getExecutorEngine();
     }
     
     @Override
     public OptimizeContextFactory getOptimizeContextFactory() {
-        return metaDataContexts.getOptimizeContextFactory();
+        return metaDataContexts.get().getOptimizeContextFactory();
     }
     
     @Override
     public ConfigurationProperties getProps() {
-        return metaDataContexts.getProps();
+        return metaDataContexts.get().getProps();
     }
     
     @Override
@@ -164,12 +171,12 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     
     @Override
     public StateContext getStateContext() {
-        return metaDataContexts.getStateContext();
+        return metaDataContexts.get().getStateContext();
     }
     
     @Override
     public void close() {
-        metaDataContexts.close();
+        metaDataContexts.get().close();
         governanceFacade.close();
     }
     
@@ -180,13 +187,15 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @throws SQLException SQL exception
      */
     @Subscribe
-    public synchronized void renew(final SchemaAddedEvent event) throws SQLException {
-        Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        metaDataMap.put(event.getSchemaName(), buildMetaData(event));
-        metaDataContexts = new StandardMetaDataContexts(metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
-        governanceFacade.getRegistryCenter().getSchemaService().persist(event.getSchemaName(), metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getSchema());
-        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(), 
-                metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), metaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
+    public void renew(final SchemaAddedEvent event) throws SQLException {
+        String schemaName = event.getSchemaName();
+        ShardingSphereMetaData metaData;
+        synchronized (getSchemaLock(schemaName)) {
+            metaData = buildMetaData(event);
+            publishMetaData(metaData);
+        }
+        governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, metaData.getSchema());
+        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(schemaName, metaData.getResource().getDatabaseType(), metaData.getResource().getDataSources()));
     }
     
     /**
@@ -195,11 +204,10 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @param event schema delete event
      */
     @Subscribe
-    public synchronized void renew(final SchemaDeletedEvent event) {
-        Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        metaDataMap.remove(event.getSchemaName());
-        metaDataContexts = new StandardMetaDataContexts(
-                metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+    public void renew(final SchemaDeletedEvent event) {
+        synchronized (getSchemaLock(event.getSchemaName())) {
+            publish(each -> createMetaDataContexts(each, getRemovedMetaDataMap(each.getMetaDataMap(), event.getSchemaName())));
+        }
         governanceFacade.getRegistryCenter().getSchemaService().delete(event.getSchemaName());
     }
     
@@ -209,9 +217,9 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @param event properties changed event
      */
     @Subscribe
-    public synchronized void renew(final PropertiesChangedEvent event) {
+    public void renew(final PropertiesChangedEvent event) {
         ConfigurationProperties props = new ConfigurationProperties(event.getProps());
-        metaDataContexts = new StandardMetaDataContexts(getChangedMataDataMap(), metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), props);
+        publish(each -> new StandardMetaDataContexts(each.getMetaDataMap(), each.getGlobalRuleMetaData(), each.getExecutorEngine(), props));
     }
     
     /**
@@ -220,9 +228,8 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @param event authority changed event
      */
     @Subscribe
-    public synchronized void renew(final AuthorityChangedEvent event) {
-        metaDataContexts = new StandardMetaDataContexts(
-                metaDataContexts.getMetaDataMap(), getChangedGlobalRuleMetaData(event), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+    public void renew(final AuthorityChangedEvent event) {
+        publish(each -> new StandardMetaDataContexts(each.getMetaDataMap(), getChangedGlobalRuleMetaData(each, event), each.getExecutorEngine(), each.getProps()));
     }
     
     /**
@@ -231,17 +238,15 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @param event meta data changed event
      */
     @Subscribe
-    public synchronized void renew(final SchemaChangedEvent event) {
+    public void renew(final SchemaChangedEvent event) {
         try {
-            Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap().size(), 1);
-            for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
-                String schemaName = entry.getKey();
-                ShardingSphereMetaData oldMetaData = entry.getValue();
-                ShardingSphereMetaData newMetaData = event.getSchemaName().equals(schemaName) ? getChangedMetaData(oldMetaData, event.getSchema(), schemaName) : oldMetaData;
-                newMetaDataMap.put(schemaName, newMetaData);
+            synchronized (getSchemaLock(event.getSchemaName())) {
+                publish(each -> {
+                    ShardingSphereMetaData oldMetaData = each.getMetaData(event.getSchemaName());
+                    return null == oldMetaData ? each
+                            : createMetaDataContexts(each, getChangedMetaDataMap(each.getMetaDataMap(), getChangedMetaData(oldMetaData, event.getSchema(), event.getSchemaName())));
+                });
             }
-            metaDataContexts = new StandardMetaDataContexts(
-                    newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
         } finally {
             ShardingSphereEventBus.getInstance().post(new InnerLockReleasedEvent(LockNameUtil.getMetadataRefreshLockName()));
         }
@@ -254,14 +259,14 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @throws SQLException SQL exception
      */
     @Subscribe
-    public synchronized void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
-        Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
+    public void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        newMetaDataMap.remove(schemaName);
-        newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations()));
-        metaDataContexts = new StandardMetaDataContexts(
-                newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
-        governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, newMetaDataMap.get(schemaName).getSchema());
+        ShardingSphereMetaData metaData;
+        synchronized (getSchemaLock(schemaName)) {
+            metaData = getChangedMetaData(metaDataContexts.get().getMetaData(schemaName), event.getRuleConfigurations());
+            publishMetaData(metaData);
+        }
+        governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, metaData.getSchema());
     }
     
     /**
@@ -271,15 +276,14 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @throws SQLException SQL exception
      */
     @Subscribe
-    public synchronized void renew(final DataSourceChangedEvent event) throws SQLException {
+    public void renew(final DataSourceChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        newMetaDataMap.remove(schemaName);
-        newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations()));
-        metaDataContexts = new StandardMetaDataContexts(
-                newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
-        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(),
-                metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), newMetaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
+        ShardingSphereMetaData metaData;
+        synchronized (getSchemaLock(schemaName)) {
+            metaData = getChangedMetaData(metaDataContexts.get().getMetaData(schemaName), event.getDataSourceConfigurations());
+            publishMetaData(metaData);
+        }
+        ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(schemaName, metaData.getResource().getDatabaseType(), metaData.getResource().getDataSources()));
     }
     
     /**
@@ -288,9 +292,9 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @param event disabled state changed event
      */
     @Subscribe
-    public synchronized void renew(final DisabledStateChangedEvent event) {
+    public void renew(final DisabledStateChangedEvent event) {
         GovernanceSchema governanceSchema = event.getGovernanceSchema();
-        Collection<ShardingSphereRule> rules = metaDataContexts.getMetaDataMap().get(governanceSchema.getSchemaName()).getRuleMetaData().getRules();
+        Collection<ShardingSphereRule> rules = metaDataContexts.get().getMetaData(governanceSchema.getSchemaName()).getRuleMetaData().getRules();
         for (ShardingSphereRule each : rules) {
             if (each instanceof StatusContainedRule) {
                 ((StatusContainedRule) each).updateRuleStatus(new DataSourceNameDisabledEvent(governanceSchema.getDataSourceName(), event.isDisabled()));
@@ -304,9 +308,9 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @param event primary state changed event
      */
     @Subscribe
-    public synchronized void renew(final PrimaryStateChangedEvent event) {
+    public void renew(final PrimaryStateChangedEvent event) {
         GovernanceSchema governanceSchema = event.getGovernanceSchema();
-        Collection<ShardingSphereRule> rules = metaDataContexts.getMetaDataMap().get(governanceSchema.getSchemaName()).getRuleMetaData().getRules();
+        Collection<ShardingSphereRule> rules = metaDataContexts.get().getMetaData(governanceSchema.getSchemaName()).getRuleMetaData().getRules();
         for (ShardingSphereRule each : rules) {
             if (each instanceof StatusContainedRule) {
                 ((StatusContainedRule) each).updateRuleStatus(new PrimaryDataSourceEvent(governanceSchema.getSchemaName(), governanceSchema.getDataSourceName(), event.getPrimaryDataSourceName()));
@@ -320,16 +324,47 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      * @param event global rule configurations changed event
      */
     @Subscribe
-    public synchronized void renew(final GlobalRuleConfigurationsChangedEvent event) {
+    public void renew(final GlobalRuleConfigurationsChangedEvent event) {
         Collection<RuleConfiguration> newGlobalConfigs = event.getRuleConfigurations();
         if (!newGlobalConfigs.isEmpty()) {
-            ShardingSphereRuleMetaData newGlobalRuleMetaData = new ShardingSphereRuleMetaData(newGlobalConfigs,
-                    ShardingSphereRulesBuilder.buildGlobalRules(newGlobalConfigs, metaDataContexts.getMetaDataMap()));
-            metaDataContexts = new StandardMetaDataContexts(
-                    metaDataContexts.getMetaDataMap(), newGlobalRuleMetaData, metaDataContexts.getExecutorEngine(), metaDataContexts.getProps());
+            publish(each -> new StandardMetaDataContexts(each.getMetaDataMap(), 
+                    new ShardingSphereRuleMetaData(newGlobalConfigs, ShardingSphereRulesBuilder.buildGlobalRules(newGlobalConfigs, each.getMetaDataMap())), each.getExecutorEngine(), each.getProps()));
         }
     }
     
+    private Object getSchemaLock(final String schemaName) {
+        return schemaLocks.computeIfAbsent(schemaName, key -> new Object());
+    }
+    
+    private void publishMetaData(final ShardingSphereMetaData metaData) {
+        publish(each -> createMetaDataContexts(each, getChangedMetaDataMap(each.getMetaDataMap(), metaData)));
+    }
+    
+    private void publish(final UnaryOperator<StandardMetaDataContexts> renewer) {
+        StandardMetaDataContexts oldMetaDataContexts;
+        StandardMetaDataContexts newMetaDataContexts;
+        do {
+            oldMetaDataContexts = metaDataContexts.get();
+            newMetaDataContexts = renewer.apply(oldMetaDataContexts);
+        } while (!metaDataContexts.compareAndSet(oldMetaDataContexts, newMetaDataContexts));
+    }
+    
+    private StandardMetaDataContexts createMetaDataContexts(final StandardMetaDataContexts oldMetaDataContexts, final Map<String, ShardingSphereMetaData> metaDataMap) {
+        return new StandardMetaDataContexts(metaDataMap, oldMetaDataContexts.getGlobalRuleMetaData(), oldMetaDataContexts.getExecutorEngine(), oldMetaDataContexts.getProps());
+    }
+    
+    private Map<String, ShardingSphereMetaData> getChangedMetaDataMap(final Map<String, ShardingSphereMetaData> oldMetaDataMap, final ShardingSphereMetaData metaData) {
+        Map<String, ShardingSphereMetaData> result = new LinkedHashMap<>(oldMetaDataMap);
+        result.put(metaData.getName(), metaData);
+        return result;
+    }
+    
+    private Map<String, ShardingSphereMetaData> getRemovedMetaDataMap(final Map<String, ShardingSphereMetaData> oldMetaDataMap, final String schemaName) {
+        Map<String, ShardingSphereMetaData> result = new LinkedHashMap<>(oldMetaDataMap);
+        result.remove(schemaName);
+        return result;
+    }
+    
     private ShardingSphereMetaData buildMetaData(final SchemaAddedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
         if (!governanceFacade.getRegistryCenter().getDataSourceService().isExisted(schemaName)) {
@@ -344,28 +379,22 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
                 Collections.singletonMap(schemaName, governanceFacade.getRegistryCenter().getSchemaRuleService().load(schemaName)),
                 // TODO load global schema from reg center
                 governanceFacade.getRegistryCenter().getGlobalRuleService().load(), 
-                metaDataContexts.getProps().getProps());
+                metaDataContexts.get().getProps().getProps());
         return metaDataContextsBuilder.build().getMetaDataMap().get(schemaName);
     }
     
-    private Map<String, ShardingSphereMetaData> getChangedMataDataMap() {
-        Map<String, ShardingSphereMetaData> result = new HashMap<>(metaDataContexts.getMetaDataMap().size());
-        for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
-            result.put(entry.getKey(), entry.getValue());
-        }
-        return result;
-    }
-    
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final ShardingSphereSchema schema, final String schemaName) {
         // TODO refresh table addressing mapper
-        return new ShardingSphereMetaData(schemaName, oldMetaData.getResource(), oldMetaData.getRuleMetaData(), schema);
+        ShardingSphereSchema changedSchema = oldMetaData.getSchema().isLazyLoaded() ? oldMetaData.getSchema().renew(schema.getLoadedTables()) : schema;
+        return new ShardingSphereMetaData(schemaName, oldMetaData.getResource(), oldMetaData.getRuleMetaData(), changedSchema);
     }
     
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        // TODO load global schema from reg center
-        MetaDataContextsBuilder builder = new MetaDataContextsBuilder(Collections.singletonMap(oldMetaData.getName(), oldMetaData.getResource().getDataSources()),
-                Collections.singletonMap(oldMetaData.getName(), ruleConfigs), new LinkedList<>(), metaDataContexts.getProps().getProps());
-        return builder.build().getMetaDataMap().values().iterator().next();
+        ShardingSphereResource resource = oldMetaData.getResource();
+        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.buildSchemaRules(oldMetaData.getName(), ruleConfigs, resource.getDatabaseType(), resource.getDataSources());
+        ShardingSphereSchema schema = SchemaBuilder.build(new SchemaBuilderMaterials(resource.getDatabaseType(), resource.getDataSources(), rules, metaDataContexts.get().getProps()),
+                oldMetaData.getSchema(), oldMetaData.getRuleMetaData().getRules());
+        return new ShardingSphereMetaData(oldMetaData.getName(), resource, new ShardingSphereRuleMetaData(ruleConfigs, rules), schema);
     }
     
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) throws SQLException {
@@ -377,7 +406,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
                 getNewDataSources(oldMetaData.getResource().getDataSources(), getAddedDataSources(oldMetaData, newDataSourceConfigs), modifiedDataSources, deletedDataSources));
         // TODO load global schema from reg center
         return new MetaDataContextsBuilder(dataSourcesMap, Collections.singletonMap(oldMetaData.getName(), oldMetaData.getRuleMetaData().getConfigurations()), new LinkedList<>(),
-                metaDataContexts.getProps().getProps()).build().getMetaDataMap().get(oldMetaData.getName());
+                metaDataContexts.get().getProps().getProps()).build().getMetaDataMap().get(oldMetaData.getName());
     }
     
     private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> oldDataSources, 
@@ -420,16 +449,16 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         return result;
     }
     
-    private ShardingSphereRuleMetaData getChangedGlobalRuleMetaData(final AuthorityChangedEvent event) {
-        Optional<AuthorityRuleConfiguration> authorityRuleConfig = metaDataContexts.getGlobalRuleMetaData().getConfigurations().stream().filter(each -> each instanceof AuthorityRuleConfiguration)
+    private ShardingSphereRuleMetaData getChangedGlobalRuleMetaData(final StandardMetaDataContexts oldMetaDataContexts, final AuthorityChangedEvent event) {
+        Optional<AuthorityRuleConfiguration> authorityRuleConfig = oldMetaDataContexts.getGlobalRuleMetaData().getConfigurations().stream().filter(each -> each instanceof AuthorityRuleConfiguration)
                 .findAny().map(each -> (AuthorityRuleConfiguration) each);
         if (!authorityRuleConfig.isPresent()) {
-            return metaDataContexts.getGlobalRuleMetaData();
+            return oldMetaDataContexts.getGlobalRuleMetaData();
         }
-        Collection<RuleConfiguration> globalRuleConfigs = new LinkedList<>(metaDataContexts.getGlobalRuleMetaData().getConfigurations());
+        Collection<RuleConfiguration> globalRuleConfigs = new LinkedList<>(oldMetaDataContexts.getGlobalRuleMetaData().getConfigurations());
         globalRuleConfigs.remove(authorityRuleConfig.get());
         globalRuleConfigs.add(getChangedAuthorityRuleConfiguration(authorityRuleConfig.get(), event));
-        return new ShardingSphereRuleMetaData(globalRuleConfigs, ShardingSphereRulesBuilder.buildGlobalRules(globalRuleConfigs, metaDataContexts.getMetaDataMap()));
+        return new ShardingSphereRuleMetaData(globalRuleConfigs, ShardingSphereRulesBuilder.buildGlobalRules(globalRuleConfigs, oldMetaDataContexts.getMetaDataMap()));
     }
     
     private AuthorityRuleConfiguration getChangedAuthorityRuleConfiguration(final AuthorityRuleConfiguration oldAuthorityRuleConfig, final AuthorityChangedEvent event) {
@@ -42,6 +42,8 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.LazyTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
 import org.junit.Before;
@@ -170,6 +172,20 @@ public final class GovernanceMetaDataContextsTest {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
     }
     
+    @Test
+    public void assertSchemaChangedWithLazyLoadedSchema() {
+        LazyTableMetaDataLoader lazyLoader = new LazyTableMetaDataLoader(
+                new MySQLDatabaseType(), Collections.singletonMap("ds_0", new MockedDataSource()), Collections.singletonMap("t_user", "ds_0"), 16);
+        when(metaData.getSchema()).thenReturn(new ShardingSphereSchema(Collections.emptyMap(), lazyLoader));
+        TableMetaData tableMetaData = new TableMetaData();
+        SchemaChangedEvent event = new SchemaChangedEvent("schema", new ShardingSphereSchema(Collections.singletonMap("t_order", tableMetaData)));
+        governanceMetaDataContexts.renew(event);
+        ShardingSphereSchema actual = governanceMetaDataContexts.getMetaData("schema").getSchema();
+        assertTrue(actual.isLazyLoaded());
+        assertTrue(actual.containsTable("t_user"));
+        assertThat(actual.get("t_order"), is(tableMetaData));
+    }
+    
     @Test
     public void assertRuleConfigurationsChanged() throws SQLException {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
@@ -178,6 +194,13 @@ public final class GovernanceMetaDataContextsTest {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
     }
     
+    @Test
+    public void assertRuleConfigurationsChangedWithReusedResource() throws SQLException {
+        RuleConfigurationsChangedEvent event = new RuleConfigurationsChangedEvent("schema", new LinkedList<>());
+        governanceMetaDataContexts.renew(event);
+        assertThat(governanceMetaDataContexts.getMetaData("schema").getResource(), is(metaData.getResource()));
+    }
+    
     @Test
     public void assertDisableStateChanged() {
         DisabledStateChangedEvent event = new DisabledStateChangedEvent(new GovernanceSchema("schema.ds_0"), true);
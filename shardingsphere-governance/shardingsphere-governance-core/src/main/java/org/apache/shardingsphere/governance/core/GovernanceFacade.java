@@ -85,6 +85,7 @@ public final class GovernanceFacade implements AutoCloseable {
     
     @Override
     public void close() {
+        registryCenter.close();
         registryCenterRepository.close();
     }
 }
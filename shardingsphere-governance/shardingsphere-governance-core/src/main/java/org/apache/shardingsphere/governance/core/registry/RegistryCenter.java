@@ -69,6 +69,8 @@ public final class RegistryCenter {
     @Getter
     private final LockRegistryService lockService;
     
+    private final ProcessRegistrySubscriber processRegistrySubscriber;
+    
     public RegistryCenter(final RegistryCenterRepository repository) {
         instanceId = GovernanceInstance.getInstance().getId();
         this.repository = repository;
@@ -80,7 +82,7 @@ public final class RegistryCenter {
         dataSourceStatusService = new DataSourceStatusRegistryService(repository);
         lockService = new LockRegistryService(repository);
         new ScalingRegistrySubscriber(repository, schemaRuleService);
-        new ProcessRegistrySubscriber(repository);
+        processRegistrySubscriber = new ProcessRegistrySubscriber(repository);
         ShardingSphereEventBus.getInstance().register(this);
     }
     
@@ -112,4 +114,11 @@ public final class RegistryCenter {
         repository.persist(StatesNode.getPrimaryNodesPath(), "");
         repository.persistEphemeral(StatesNode.getProxyNodePath(instanceId), "");
     }
+    
+    /**
+     * Close registry center.
+     */
+    public void close() {
+        processRegistrySubscriber.close();
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.process.local;
+
+import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local process registry.
+ *
+ * <p>
+ * Execute processes of current instance are held in memory and changed without any registry center access.
+ * Changed processes are persisted to registry center by {@link #flush()} at most once per flush, so that processes of peers are visible to each other.
+ * </p>
+ */
+public final class LocalProcessRegistry {
+    
+    private final RegistryCenterRepository repository;
+    
+    private final Map<String, YamlExecuteProcessContext> processContexts = new ConcurrentHashMap<>();
+    
+    private final Set<String> changedExecutionIDs = ConcurrentHashMap.newKeySet();
+    
+    private final Set<String> removedExecutionIDs = ConcurrentHashMap.newKeySet();
+    
+    private final Set<String> persistedExecutionIDs = ConcurrentHashMap.newKeySet();
+    
+    public LocalProcessRegistry(final RegistryCenterRepository repository) {
+        this.repository = repository;
+    }
+    
+    /**
+     * Add execute process.
+     *
+     * @param executeProcessContext execute process context
+     */
+    public void add(final ExecuteProcessContext executeProcessContext) {
+        processContexts.put(executeProcessContext.getExecutionID(), new YamlExecuteProcessContext(executeProcessContext));
+        changedExecutionIDs.add(executeProcessContext.getExecutionID());
+    }
+    
+    /**
+     * Update execute process unit status.
+     *
+     * @param executionID execution ID
+     * @param executeProcessUnit execute process unit
+     */
+    public void update(final String executionID, final ExecuteProcessUnit executeProcessUnit) {
+        YamlExecuteProcessContext processContext = processContexts.get(executionID);
+        if (null == processContext) {
+            return;
+        }
+        synchronized (processContext) {
+            for (YamlExecuteProcessUnit each : processContext.getUnitStatuses()) {
+                if (each.getUnitID().equals(executeProcessUnit.getUnitID())) {
+                    each.setStatus(executeProcessUnit.getStatus());
+                }
+            }
+        }
+        changedExecutionIDs.add(executionID);
+    }
+    
+    /**
+     * Remove execute process if all units are done.
+     *
+     * @param executionID execution ID
+     */
+    public void remove(final String executionID) {
+        YamlExecuteProcessContext processContext = processContexts.get(executionID);
+        if (null == processContext) {
+            return;
+        }
+        synchronized (processContext) {
+            for (YamlExecuteProcessUnit each : processContext.getUnitStatuses()) {
+                if (ExecuteProcessConstants.EXECUTE_STATUS_DONE != each.getStatus()) {
+                    return;
+                }
+            }
+        }
+        processContexts.remove(executionID);
+        changedExecutionIDs.remove(executionID);
+        removedExecutionIDs.add(executionID);
+    }
+    
+    /**
+     * Load show process list data of current instance and peers.
+     *
+     * @return process list data
+     */
+    public Collection<String> loadProcessListData() {
+        Collection<String> result = new LinkedList<>();
+        for (YamlExecuteProcessContext each : processContexts.values()) {
+            result.add(marshal(each));
+        }
+        for (String each : repository.getChildrenKeys(ProcessNode.getExecutionNodesPath())) {
+            if (!processContexts.containsKey(each) && !removedExecutionIDs.contains(each) && !persistedExecutionIDs.contains(each)) {
+                String processListData = repository.get(ProcessNode.getExecutionPath(each));
+                if (null != processListData) {
+                    result.add(processListData);
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Persist changed execute processes and delete removed execute processes in registry center.
+     */
+    public synchronized void flush() {
+        for (Iterator<String> iterator = changedExecutionIDs.iterator(); iterator.hasNext();) {
+            String executionID = iterator.next();
+            iterator.remove();
+            YamlExecuteProcessContext processContext = processContexts.get(executionID);
+            if (null != processContext) {
+                repository.persist(ProcessNode.getExecutionPath(executionID), marshal(processContext));
+                persistedExecutionIDs.add(executionID);
+            }
+        }
+        for (Iterator<String> iterator = removedExecutionIDs.iterator(); iterator.hasNext();) {
+            String executionID = iterator.next();
+            iterator.remove();
+            if (persistedExecutionIDs.remove(executionID)) {
+                repository.delete(ProcessNode.getExecutionPath(executionID));
+            }
+        }
+    }
+    
+    private String marshal(final YamlExecuteProcessContext processContext) {
+        synchronized (processContext) {
+            return YamlEngine.marshal(processContext);
+        }
+    }
+}
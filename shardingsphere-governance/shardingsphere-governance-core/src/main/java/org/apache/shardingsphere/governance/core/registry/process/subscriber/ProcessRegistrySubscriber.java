@@ -18,37 +18,50 @@
 package org.apache.shardingsphere.governance.core.registry.process.subscriber;
 
 import com.google.common.eventbus.Subscribe;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessSummaryReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ExecuteProcessUnitReportEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.governance.core.registry.process.event.ShowProcessListResponseEvent;
-import org.apache.shardingsphere.governance.core.registry.process.node.ProcessNode;
+import org.apache.shardingsphere.governance.core.registry.process.local.LocalProcessRegistry;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
-import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessUnit;
-import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Process registry subscriber.
  */
+@Slf4j
 public final class ProcessRegistrySubscriber {
     
-    private final RegistryCenterRepository repository;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+    
+    private final LocalProcessRegistry localProcessRegistry;
+    
+    private final ScheduledExecutorService flushExecutor;
     
     public ProcessRegistrySubscriber(final RegistryCenterRepository repository) {
-        this.repository = repository;
+        localProcessRegistry = new LocalProcessRegistry(repository);
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("ProcessRegistry-%d"));
+        flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
         ShardingSphereEventBus.getInstance().register(this);
     }
     
+    private void flush() {
+        try {
+            localProcessRegistry.flush();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Flush execute processes to registry center failed.", ex);
+        }
+    }
+    
     /**
      * Load show process list data.
      *
@@ -56,9 +69,7 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void loadShowProcessListData(final ShowProcessListRequestEvent event) {
-        List<String> childrenKeys = repository.getChildrenKeys(ProcessNode.getExecutionNodesPath());
-        Collection<String> processListData = childrenKeys.stream().map(key -> repository.get(ProcessNode.getExecutionPath(key))).collect(Collectors.toList());
-        ShardingSphereEventBus.getInstance().post(new ShowProcessListResponseEvent(processListData));
+        ShardingSphereEventBus.getInstance().post(new ShowProcessListResponseEvent(localProcessRegistry.loadProcessListData()));
     }
     
     /**
@@ -68,8 +79,7 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void reportExecuteProcessSummary(final ExecuteProcessSummaryReportEvent event) {
-        ExecuteProcessContext executeProcessContext = event.getExecuteProcessContext();
-        repository.persist(ProcessNode.getExecutionPath(executeProcessContext.getExecutionID()), YamlEngine.marshal(new YamlExecuteProcessContext(executeProcessContext)));
+        localProcessRegistry.add(event.getExecuteProcessContext());
     }
     
     /**
@@ -79,16 +89,7 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void reportExecuteProcessUnit(final ExecuteProcessUnitReportEvent event) {
-        // TODO lock on the same jvm
-        String executionPath = ProcessNode.getExecutionPath(event.getExecutionID());
-        YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-        ExecuteProcessUnit executeProcessUnit = event.getExecuteProcessUnit();
-        for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-            if (unit.getUnitID().equals(executeProcessUnit.getUnitID())) {
-                unit.setStatus(executeProcessUnit.getStatus());
-            }
-        }
-        repository.persist(executionPath, YamlEngine.marshal(yamlExecuteProcessContext));
+        localProcessRegistry.update(event.getExecutionID(), event.getExecuteProcessUnit());
     }
     
     /**
@@ -98,13 +99,14 @@ public final class ProcessRegistrySubscriber {
      */
     @Subscribe
     public void reportExecuteProcess(final ExecuteProcessReportEvent event) {
-        String executionPath = ProcessNode.getExecutionPath(event.getExecutionID());
-        YamlExecuteProcessContext yamlExecuteProcessContext = YamlEngine.unmarshal(repository.get(executionPath), YamlExecuteProcessContext.class);
-        for (YamlExecuteProcessUnit unit : yamlExecuteProcessContext.getUnitStatuses()) {
-            if (unit.getStatus() != ExecuteProcessConstants.EXECUTE_STATUS_DONE) {
-                return;
-            }
-        }
-        repository.delete(executionPath);
+        localProcessRegistry.remove(event.getExecutionID());
+    }
+    
+    /**
+     * Close process registry subscriber.
+     */
+    public void close() {
+        ShardingSphereEventBus.getInstance().unregister(this);
+        flushExecutor.shutdownNow();
     }
 }
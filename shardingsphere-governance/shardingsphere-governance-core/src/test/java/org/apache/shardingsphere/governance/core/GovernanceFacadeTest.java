@@ -81,9 +81,12 @@ public final class GovernanceFacadeTest {
     
     @Test
     public void assertClose() {
+        RegistryCenter registryCenter = mock(RegistryCenter.class);
         RegistryCenterRepository registryCenterRepository = mock(RegistryCenterRepository.class);
+        setField(governanceFacade, "registryCenter", registryCenter);
         setField(governanceFacade, "registryCenterRepository", registryCenterRepository);
         governanceFacade.close();
+        verify(registryCenter).close();
         verify(registryCenterRepository).close();
     }
     
@@ -45,8 +45,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 
@@ -154,4 +156,16 @@ public final class RegistryCenterTest {
         verify(registryCenterRepository).persist("/states/primarynodes", "");
         verify(registryCenterRepository).persistEphemeral(anyString(), anyString());
     }
+    
+    @Test
+    public void assertClose() throws ReflectiveOperationException {
+        registryCenter.close();
+        assertTrue(((ExecutorService) getField(getField(registryCenter, "processRegistrySubscriber"), "flushExecutor")).isShutdown());
+    }
+    
+    private static Object getField(final Object target, final String name) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
 }
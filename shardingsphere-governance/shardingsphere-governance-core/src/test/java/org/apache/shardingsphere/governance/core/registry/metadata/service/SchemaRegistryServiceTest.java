@@ -20,26 +20,36 @@ package org.apache.shardingsphere.governance.core.registry.metadata.service;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.DatabaseCreatedSQLNotificationEvent;
 import org.apache.shardingsphere.governance.core.registry.metadata.event.DatabaseDroppedSQLNotificationEvent;
-import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlSchema;
-import org.apache.shardingsphere.governance.core.yaml.schema.swapper.SchemaYamlSwapper;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.LazyTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlSchema;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.SchemaYamlSwapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import javax.sql.DataSource;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -49,6 +59,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,6 +87,22 @@ public final class SchemaRegistryServiceTest {
         verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema"), anyString());
     }
     
+    @Test
+    public void assertPersistLazyLoadedSchema() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Map<String, String> lazyTableDataSourceNames = new LinkedHashMap<>(2, 1);
+        lazyTableDataSourceNames.put("t_user", "ds_0");
+        lazyTableDataSourceNames.put("t_order_item", "ds_0");
+        LazyTableMetaDataLoader lazyLoader = new LazyTableMetaDataLoader(mock(DatabaseType.class), Collections.singletonMap("ds_0", dataSource), lazyTableDataSourceNames, 16);
+        ShardingSphereSchema schema = new ShardingSphereSchema(new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlSchema.class)).getLoadedTables(), lazyLoader);
+        schema.put("t_user", new TableMetaData(Collections.singletonList(new ColumnMetaData("user_id", 0, true, false, false)), Collections.emptyList()));
+        schemaRegistryService.persist("foo_db", schema);
+        ArgumentCaptor<String> yamlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(registryCenterRepository).persist(eq("/metadata/foo_db/schema"), yamlCaptor.capture());
+        assertThat(YamlEngine.unmarshal(yamlCaptor.getValue(), YamlSchema.class).getTables().keySet(), is(new HashSet<>(Arrays.asList("t_order", "t_user"))));
+        verify(dataSource, never()).getConnection();
+    }
+    
     @Test
     public void assertDelete() {
         schemaRegistryService.delete("foo_db");
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.process.local;
+
+import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.yaml.YamlExecuteProcessContext;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class LocalProcessRegistryTest {
+    
+    @Mock
+    private RegistryCenterRepository repository;
+    
+    private LocalProcessRegistry localProcessRegistry;
+    
+    @Before
+    public void setUp() {
+        localProcessRegistry = new LocalProcessRegistry(repository);
+    }
+    
+    @Test
+    public void assertUpdateWithoutRegistryCenterAccess() {
+        localProcessRegistry.add(mockExecuteProcessContext());
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_1", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_2", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        verify(repository, never()).get(anyString());
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertLoadProcessListData() {
+        when(repository.getChildrenKeys("/executionnodes")).thenReturn(Arrays.asList("foo_id", "bar_id"));
+        when(repository.get("/executionnodes/bar_id")).thenReturn("executionID: bar_id");
+        localProcessRegistry.add(mockExecuteProcessContext());
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_1", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        Collection<String> actual = localProcessRegistry.loadProcessListData();
+        assertThat(actual.size(), is(2));
+        YamlExecuteProcessContext localProcessContext = YamlEngine.unmarshal(actual.iterator().next(), YamlExecuteProcessContext.class);
+        assertThat(localProcessContext.getExecutionID(), is("foo_id"));
+        assertThat(localProcessContext.getUnitStatuses().iterator().next().getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        assertTrue(actual.contains("executionID: bar_id"));
+        verify(repository, never()).get("/executionnodes/foo_id");
+    }
+    
+    @Test
+    public void assertFlushChangedProcessOnce() {
+        localProcessRegistry.add(mockExecuteProcessContext());
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_1", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        localProcessRegistry.flush();
+        localProcessRegistry.flush();
+        verify(repository, times(1)).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertRemoveUnfinishedProcess() {
+        localProcessRegistry.add(mockExecuteProcessContext());
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_1", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        localProcessRegistry.remove("foo_id");
+        when(repository.getChildrenKeys("/executionnodes")).thenReturn(Collections.emptyList());
+        assertThat(localProcessRegistry.loadProcessListData().size(), is(1));
+    }
+    
+    @Test
+    public void assertRemoveFinishedProcessBeforeFlush() {
+        localProcessRegistry.add(mockExecuteProcessContext());
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_1", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_2", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        localProcessRegistry.remove("foo_id");
+        localProcessRegistry.flush();
+        verify(repository, never()).persist(anyString(), anyString());
+        verify(repository, never()).delete(anyString());
+    }
+    
+    @Test
+    public void assertRemoveFinishedProcessAfterFlush() {
+        localProcessRegistry.add(mockExecuteProcessContext());
+        localProcessRegistry.flush();
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_1", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        localProcessRegistry.update("foo_id", mockExecuteProcessUnit("unit_2", ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        localProcessRegistry.remove("foo_id");
+        localProcessRegistry.flush();
+        verify(repository).persist(anyString(), anyString());
+        verify(repository).delete("/executionnodes/foo_id");
+    }
+    
+    private ExecuteProcessContext mockExecuteProcessContext() {
+        Collection<ExecuteProcessUnit> unitStatuses = Arrays.asList(
+                mockExecuteProcessUnit("unit_1", ExecuteProcessConstants.EXECUTE_STATUS_START), mockExecuteProcessUnit("unit_2", ExecuteProcessConstants.EXECUTE_STATUS_START));
+        ExecuteProcessContext result = mock(ExecuteProcessContext.class);
+        when(result.getExecutionID()).thenReturn("foo_id");
+        when(result.getStartTimeMillis()).thenReturn(1L);
+        when(result.getUnitStatuses()).thenReturn(unitStatuses);
+        return result;
+    }
+    
+    private ExecuteProcessUnit mockExecuteProcessUnit(final String unitID, final ExecuteProcessConstants status) {
+        ExecuteProcessUnit result = mock(ExecuteProcessUnit.class);
+        when(result.getUnitID()).thenReturn(unitID);
+        when(result.getStatus()).thenReturn(status);
+        return result;
+    }
+}
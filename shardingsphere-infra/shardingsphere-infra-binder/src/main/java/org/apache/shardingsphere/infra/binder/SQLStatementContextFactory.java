@@ -48,6 +48,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementConte
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.extractor.TableExtractor;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.AnalyzeTableStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
@@ -81,6 +82,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.sqlserver.dcl.SQLServerDenyUserStatement;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * SQL statement context factory.
@@ -98,6 +100,7 @@ public final class SQLStatementContextFactory {
      */
     public static SQLStatementContext<?> newInstance(final ShardingSphereSchema schema, final List<Object> parameters, final SQLStatement sqlStatement) {
         if (sqlStatement instanceof DMLStatement) {
+            prefetchTableMetaData(schema, sqlStatement);
             return getDMLStatementContext(schema, parameters, (DMLStatement) sqlStatement);
         }
         if (sqlStatement instanceof DDLStatement) {
@@ -112,6 +115,15 @@ public final class SQLStatementContextFactory {
         return new CommonSQLStatementContext<>(sqlStatement);
     }
     
+    private static void prefetchTableMetaData(final ShardingSphereSchema schema, final SQLStatement sqlStatement) {
+        if (null == schema || !schema.isLazyLoaded()) {
+            return;
+        }
+        TableExtractor tableExtractor = new TableExtractor();
+        tableExtractor.extractTablesFromSQLStatement(sqlStatement);
+        schema.prefetch(tableExtractor.getRewriteTables().stream().map(each -> each.getTableName().getIdentifier().getValue()).collect(Collectors.toList()));
+    }
+    
     private static SQLStatementContext<?> getDMLStatementContext(final ShardingSphereSchema schema, final List<Object> parameters, final DMLStatement sqlStatement) {
         if (sqlStatement instanceof SelectStatement) {
             return new SelectStatementContext(schema, parameters, (SelectStatement) sqlStatement);
@@ -38,11 +38,42 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql-simple", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Whether reuse parse trees of SQL with same token types when SQL statement cache is not used.
+     */
+    SQL_PARSE_TREE_TEMPLATE_ENABLED("sql-parse-tree-template-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * The max thread size of worker group to execute SQL.
      */
     EXECUTOR_SIZE("executor-size", String.valueOf(0), int.class),
     
+    /**
+     * The thread mode of worker group to execute SQL.
+     *
+     * <p>
+     * PLATFORM:
+     * Execute SQL on platform threads, the thread size is decided by executor-size.
+     * </p>
+     *
+     * <p>
+     * VIRTUAL:
+     * Execute SQL on virtual threads if JVM supports, executor-size is ignored.
+     * </p>
+     */
+    EXECUTOR_MODE("executor-mode", "PLATFORM", String.class),
+    
+    /**
+     * Whether merge query results as soon as each of them is ready, instead of waiting for all of them.
+     *
+     * <p>
+     * Query results are merged in completion order instead of route order, so order of rows with equal ORDER BY values
+     * and order of rows from multiple data nodes without ORDER BY may differ between executions.
+     * Only ShardingSphere-JDBC merges incrementally, ShardingSphere-Proxy ignores it.
+     * </p>
+     */
+    INCREMENTAL_MERGE_ENABLED("incremental-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -53,6 +84,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Directory to persist schema meta data snapshots, schema meta data are loaded from snapshots when application startup if configured.
+     */
+    SCHEMA_SNAPSHOT_PATH("schema-snapshot-path", "", String.class),
+    
+    /**
+     * Whether load meta data of tables which are not configured by rules on first reference instead of application startup.
+     */
+    SCHEMA_METADATA_LAZY_LOADING_ENABLED("schema-metadata-lazy-loading-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max count of lazy loaded table meta data to be cached.
+     */
+    SCHEMA_METADATA_CACHE_SIZE("schema-metadata-cache-size", String.valueOf(1024), int.class),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
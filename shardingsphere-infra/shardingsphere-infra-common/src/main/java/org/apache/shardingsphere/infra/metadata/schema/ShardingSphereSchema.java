@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.infra.metadata.schema;
 
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -32,16 +35,24 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class ShardingSphereSchema {
     
-    private final Map<String, TableMetaData> tables;
+    private volatile Map<String, TableMetaData> tables;
+    
+    private final LazyTableMetaDataLoader lazyLoader;
     
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
+        lazyLoader = null;
     }
     
     public ShardingSphereSchema(final Map<String, TableMetaData> tables) {
+        this(tables, null);
+    }
+    
+    public ShardingSphereSchema(final Map<String, TableMetaData> tables, final LazyTableMetaDataLoader lazyLoader) {
         this.tables = new ConcurrentHashMap<>(tables.size(), 1);
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
+        this.lazyLoader = lazyLoader;
     }
     
     /**
@@ -50,7 +61,30 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (null == lazyLoader) {
+            return tables.keySet();
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.keySet());
+        result.addAll(lazyLoader.getAllTableNames());
+        return result;
+    }
+    
+    /**
+     * Get loaded table meta data.
+     *
+     * <p>
+     * Lazy loaded table meta data which are not loaded yet are excluded, so that no table meta data is loaded.
+     * </p>
+     *
+     * @return loaded table meta data
+     */
+    public Map<String, TableMetaData> getLoadedTables() {
+        if (null == lazyLoader) {
+            return tables;
+        }
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tables);
+        result.putAll(lazyLoader.getLoadedTables());
+        return result;
     }
     
     /**
@@ -60,7 +94,8 @@ public final class ShardingSphereSchema {
      * @return table mata data
      */
     public TableMetaData get(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        TableMetaData result = tables.get(tableName.toLowerCase());
+        return null == result && null != lazyLoader ? lazyLoader.load(tableName) : result;
     }
     
     /**
@@ -70,6 +105,10 @@ public final class ShardingSphereSchema {
      * @param tableMetaData table meta data
      */
     public void put(final String tableName, final TableMetaData tableMetaData) {
+        if (null != lazyLoader && lazyLoader.containsTable(tableName)) {
+            lazyLoader.put(tableName, tableMetaData);
+            return;
+        }
         tables.put(tableName.toLowerCase(), tableMetaData);
     }
     
@@ -91,6 +130,9 @@ public final class ShardingSphereSchema {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        if (null != lazyLoader) {
+            lazyLoader.remove(tableName);
+        }
     }
     
     /**
@@ -100,7 +142,50 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return tables.containsKey(tableName.toLowerCase()) || null != lazyLoader && lazyLoader.containsTable(tableName);
+    }
+    
+    /**
+     * Create schema with table meta data renewed, lazy loader of this schema is shared with the created schema.
+     *
+     * @param tableMetaDataMap table meta data map
+     * @return created schema
+     */
+    public ShardingSphereSchema renew(final Map<String, TableMetaData> tableMetaDataMap) {
+        ShardingSphereSchema result = new ShardingSphereSchema(Collections.emptyMap(), lazyLoader);
+        result.putAll(tableMetaDataMap);
+        return result;
+    }
+    
+    /**
+     * Replace all table meta data with the ones of another schema at once.
+     *
+     * @param schema schema to be replaced with
+     */
+    public void replace(final ShardingSphereSchema schema) {
+        Map<String, TableMetaData> replaced = new ConcurrentHashMap<>(schema.tables.size(), 1);
+        replaced.putAll(schema.tables);
+        tables = replaced;
+    }
+    
+    /**
+     * Judge whether table meta data are lazy loaded.
+     *
+     * @return table meta data are lazy loaded or not
+     */
+    public boolean isLazyLoaded() {
+        return null != lazyLoader;
+    }
+    
+    /**
+     * Prefetch lazy loaded table meta data.
+     *
+     * @param tableNames table names
+     */
+    public void prefetch(final Collection<String> tableNames) {
+        if (null != lazyLoader) {
+            lazyLoader.prefetch(tableNames);
+        }
     }
     
     /**
@@ -20,10 +20,12 @@ package org.apache.shardingsphere.infra.metadata.schema.builder;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.ColumnMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.SchemaMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.adapter.MetaDataLoaderConnectionAdapter;
 import org.apache.shardingsphere.infra.metadata.schema.builder.spi.DialectTableMetaDataLoader;
@@ -44,6 +46,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -75,10 +78,57 @@ public final class SchemaBuilder {
     public static ShardingSphereSchema build(final SchemaBuilderMaterials materials) throws SQLException {
         ShardingSphereSchema result = new ShardingSphereSchema();
         addRuleConfiguredTables(materials, result);
+        if (isLazyLoadingEnabled(materials)) {
+            return buildLazySchema(materials, result);
+        }
         appendRemainTables(materials, result);
         return result;
     }
     
+    /**
+     * Rebuild ShardingSphere schema with changed rules.
+     *
+     * <p>
+     * Tables configured by rules are rebuilt, other tables of original schema are reused without loading from data sources.
+     * If some tables were configured by original rules but not by changed rules, the schema is built from scratch.
+     * </p>
+     *
+     * @param materials schema builder materials with changed rules
+     * @param originalSchema original ShardingSphere schema
+     * @param originalRules original rules
+     * @return ShardingSphere schema
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereSchema build(final SchemaBuilderMaterials materials,
+                                             final ShardingSphereSchema originalSchema, final Collection<ShardingSphereRule> originalRules) throws SQLException {
+        Collection<String> originalRuleTables = getRuleTables(originalRules);
+        Collection<String> ruleTables = getRuleTables(materials.getRules());
+        if (isLazyLoadingEnabled(materials) || !ruleTables.containsAll(originalRuleTables)) {
+            return build(materials);
+        }
+        ShardingSphereSchema result = new ShardingSphereSchema();
+        addRuleConfiguredTables(materials, result);
+        for (String each : originalSchema.getAllTableNames()) {
+            if (!ruleTables.contains(each) && !result.containsTable(each)) {
+                result.put(each, originalSchema.get(each));
+            }
+        }
+        return result;
+    }
+    
+    private static Collection<String> getRuleTables(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof TableContainedRule) {
+                result.addAll(((TableContainedRule) each).getTables());
+            }
+            if (each instanceof DataNodeContainedRule) {
+                result.addAll(((DataNodeContainedRule) each).getAllActualTables());
+            }
+        }
+        return result;
+    }
+    
     private static void addRuleConfiguredTables(final SchemaBuilderMaterials materials, final ShardingSphereSchema schema) throws SQLException {
         for (ShardingSphereRule rule : materials.getRules()) {
             if (rule instanceof TableContainedRule) {
@@ -91,6 +141,28 @@ public final class SchemaBuilder {
         }
     }
     
+    private static boolean isLazyLoadingEnabled(final SchemaBuilderMaterials materials) {
+        return null != materials.getProps() && Boolean.TRUE.equals(materials.getProps().getValue(ConfigurationPropertyKey.SCHEMA_METADATA_LAZY_LOADING_ENABLED));
+    }
+    
+    private static ShardingSphereSchema buildLazySchema(final SchemaBuilderMaterials materials, final ShardingSphereSchema ruleConfiguredSchema) throws SQLException {
+        Map<String, TableMetaData> tables = new LinkedHashMap<>();
+        for (String each : ruleConfiguredSchema.getAllTableNames()) {
+            tables.put(each, ruleConfiguredSchema.get(each));
+        }
+        Collection<String> existedTableNames = getExistedTables(materials.getRules(), ruleConfiguredSchema);
+        Map<String, String> tableDataSourceNames = new LinkedHashMap<>();
+        for (Entry<String, DataSource> entry : materials.getDataSourceMap().entrySet()) {
+            for (String each : SchemaMetaDataLoader.loadAllTableNames(entry.getValue(), materials.getDatabaseType())) {
+                if (!existedTableNames.contains(each)) {
+                    tableDataSourceNames.putIfAbsent(each, entry.getKey());
+                }
+            }
+        }
+        return new ShardingSphereSchema(tables, new LazyTableMetaDataLoader(materials.getDatabaseType(), materials.getDataSourceMap(), tableDataSourceNames,
+                materials.getProps().<Integer>getValue(ConfigurationPropertyKey.SCHEMA_METADATA_CACHE_SIZE)));
+    }
+    
     private static void appendRemainTables(final SchemaBuilderMaterials materials, final ShardingSphereSchema schema) throws SQLException {
         Optional<DialectTableMetaDataLoader> dialectLoader = findDialectTableMetaDataLoader(materials);
         if (dialectLoader.isPresent()) {
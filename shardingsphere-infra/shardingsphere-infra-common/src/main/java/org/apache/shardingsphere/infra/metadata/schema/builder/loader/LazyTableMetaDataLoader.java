@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy table meta data loader.
+ *
+ * <p>
+ * Only table names are known when schema is built, table meta data is loaded on first reference and kept in size bounded cache.
+ * </p>
+ */
+public final class LazyTableMetaDataLoader {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-LazyTableMetaDataLoader-%d").build());
+    
+    private final DatabaseType databaseType;
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final Map<String, String> tableDataSourceNames;
+    
+    private final Cache<String, TableMetaData> tableMetaDataCache;
+    
+    public LazyTableMetaDataLoader(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final Map<String, String> tableDataSourceNames, final int cacheSize) {
+        this.databaseType = databaseType;
+        this.dataSourceMap = dataSourceMap;
+        this.tableDataSourceNames = new ConcurrentHashMap<>(tableDataSourceNames.size(), 1);
+        tableDataSourceNames.forEach((key, value) -> this.tableDataSourceNames.put(key.toLowerCase(), value));
+        tableMetaDataCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+    }
+    
+    /**
+     * Get all table names.
+     *
+     * @return all table names
+     */
+    public Collection<String> getAllTableNames() {
+        return tableDataSourceNames.keySet();
+    }
+    
+    /**
+     * Judge whether contains table.
+     *
+     * @param tableName table name
+     * @return contains table or not
+     */
+    public boolean containsTable(final String tableName) {
+        return tableDataSourceNames.containsKey(tableName.toLowerCase());
+    }
+    
+    /**
+     * Get loaded table meta data.
+     *
+     * @return loaded table meta data, tables which are not loaded yet or evicted are excluded
+     */
+    public Map<String, TableMetaData> getLoadedTables() {
+        return new HashMap<>(tableMetaDataCache.asMap());
+    }
+    
+    /**
+     * Load table meta data.
+     *
+     * @param tableName table name
+     * @return table meta data, null if table is not lazy loaded
+     */
+    public TableMetaData load(final String tableName) {
+        String lowerCaseTableName = tableName.toLowerCase();
+        String dataSourceName = tableDataSourceNames.get(lowerCaseTableName);
+        if (null == dataSourceName) {
+            return null;
+        }
+        try {
+            return tableMetaDataCache.get(lowerCaseTableName, () -> loadTableMetaData(lowerCaseTableName, dataSourceName));
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw new ShardingSphereException(String.format("Load meta data of table `%s` failed.", tableName), (Exception) ex.getCause());
+        }
+    }
+    
+    private TableMetaData loadTableMetaData(final String tableName, final String dataSourceName) throws SQLException {
+        return TableMetaDataLoader.load(dataSourceMap.get(dataSourceName), tableName, databaseType).orElseGet(TableMetaData::new);
+    }
+    
+    /**
+     * Prefetch table meta data concurrently.
+     *
+     * @param tableNames table names
+     */
+    public void prefetch(final Collection<String> tableNames) {
+        Collection<String> absentTableNames = new LinkedList<>();
+        for (String each : tableNames) {
+            if (containsTable(each) && null == tableMetaDataCache.getIfPresent(each.toLowerCase())) {
+                absentTableNames.add(each);
+            }
+        }
+        if (absentTableNames.size() <= 1) {
+            absentTableNames.forEach(this::load);
+            return;
+        }
+        Collection<Future<TableMetaData>> futures = new LinkedList<>();
+        for (String each : absentTableNames) {
+            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+        }
+        for (Future<TableMetaData> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ShardingSphereException(ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof ShardingSphereException) {
+                    throw (ShardingSphereException) ex.getCause();
+                }
+                throw new ShardingSphereException(ex);
+            }
+        }
+    }
+    
+    /**
+     * Put table meta data into cache.
+     *
+     * @param tableName table name
+     * @param tableMetaData table meta data
+     */
+    public void put(final String tableName, final TableMetaData tableMetaData) {
+        tableMetaDataCache.put(tableName.toLowerCase(), tableMetaData);
+    }
+    
+    /**
+     * Remove table.
+     *
+     * @param tableName table name
+     */
+    public void remove(final String tableName) {
+        String lowerCaseTableName = tableName.toLowerCase();
+        tableDataSourceNames.remove(lowerCaseTableName);
+        tableMetaDataCache.invalidate(lowerCaseTableName);
+    }
+}
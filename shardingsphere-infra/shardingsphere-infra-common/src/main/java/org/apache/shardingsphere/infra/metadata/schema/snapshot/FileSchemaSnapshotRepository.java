@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlSchemaSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.SchemaYamlSwapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Schema snapshot repository based on local files.
+ *
+ * <p>
+ * Each schema is persisted as {@code <schema-name>.yaml} under the configured directory, snapshots written by other versions are ignored.
+ * </p>
+ */
+@Slf4j
+public final class FileSchemaSnapshotRepository implements SchemaSnapshotRepository {
+    
+    private static final int VERSION = 1;
+    
+    private static final String FILE_SUFFIX = ".yaml";
+    
+    private final Path directory;
+    
+    public FileSchemaSnapshotRepository(final String directory) {
+        this.directory = Paths.get(directory);
+    }
+    
+    @Override
+    public Optional<SchemaSnapshot> load(final String schemaName) {
+        File file = getFile(schemaName).toFile();
+        if (!file.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            YamlSchemaSnapshot yamlSnapshot = YamlEngine.unmarshal(file, YamlSchemaSnapshot.class);
+            if (null == yamlSnapshot || VERSION != yamlSnapshot.getVersion() || null == yamlSnapshot.getFingerprint() || null == yamlSnapshot.getSchema()) {
+                return Optional.empty();
+            }
+            return Optional.of(new SchemaSnapshot(yamlSnapshot.getFingerprint(), new SchemaYamlSwapper().swapToObject(yamlSnapshot.getSchema())));
+            // CHECKSTYLE:OFF
+        } catch (final IOException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load schema snapshot of `{}` failed, schema will be loaded from data sources.", schemaName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void persist(final String schemaName, final SchemaSnapshot snapshot) {
+        YamlSchemaSnapshot yamlSnapshot = new YamlSchemaSnapshot();
+        yamlSnapshot.setVersion(VERSION);
+        yamlSnapshot.setFingerprint(snapshot.getFingerprint());
+        yamlSnapshot.setSchema(new SchemaYamlSwapper().swapToYamlConfiguration(snapshot.getSchema()));
+        Path file = getFile(schemaName);
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, schemaName, FILE_SUFFIX);
+            Files.write(tempFile, YamlEngine.marshal(yamlSnapshot).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist schema snapshot of `{}` failed.", schemaName, ex);
+        }
+    }
+    
+    @Override
+    public void delete(final String schemaName) {
+        try {
+            Files.deleteIfExists(getFile(schemaName));
+        } catch (final IOException ex) {
+            log.warn("Delete schema snapshot of `{}` failed.", schemaName, ex);
+        }
+    }
+    
+    private Path getFile(final String schemaName) {
+        return directory.resolve(schemaName + FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.adapter.MetaDataLoaderConnectionAdapter;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Schema builder with snapshot.
+ *
+ * <p>
+ * Schema is returned from snapshot directly if exists, and the snapshot is validated in background by fingerprint.
+ * The fingerprint covers rule configurations, data source URLs, columns of tables and indexes of tables, which are queried from database meta data
+ * without loading schema. Schema is rebuilt only if the fingerprint changed, the rebuilt table meta data replace the stale ones at once,
+ * and {@code SchemaAlteredEvent} is posted.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SchemaSnapshotBuilder {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaSnapshot-%d").build());
+    
+    private static final String[] COLUMN_FINGERPRINT_LABELS = {"TABLE_NAME", "COLUMN_NAME", "TYPE_NAME", "COLUMN_SIZE", "DECIMAL_DIGITS", "IS_NULLABLE"};
+    
+    private static final Map<String, String> INDEX_FINGERPRINT_SQLS = new HashMap<>(2, 1);
+    
+    static {
+        INDEX_FINGERPRINT_SQLS.put("MySQL",
+                "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX");
+        INDEX_FINGERPRINT_SQLS.put("PostgreSQL", "SELECT tablename, indexname, indexdef FROM pg_indexes WHERE schemaname = current_schema() ORDER BY tablename, indexname");
+    }
+    
+    /**
+     * Build ShardingSphere schema with snapshot.
+     *
+     * @param schemaName schema name
+     * @param materials schema builder materials
+     * @param ruleConfigs rule configurations
+     * @param repository schema snapshot repository
+     * @return ShardingSphere schema
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereSchema build(final String schemaName, final SchemaBuilderMaterials materials,
+                                             final Collection<RuleConfiguration> ruleConfigs, final SchemaSnapshotRepository repository) throws SQLException {
+        return build(schemaName, materials, ruleConfigs, repository, EXECUTOR_SERVICE);
+    }
+    
+    static ShardingSphereSchema build(final String schemaName, final SchemaBuilderMaterials materials,
+                                      final Collection<RuleConfiguration> ruleConfigs, final SchemaSnapshotRepository repository, final Executor executor) throws SQLException {
+        Optional<SchemaSnapshot> snapshot = repository.load(schemaName);
+        if (snapshot.isPresent()) {
+            executor.execute(() -> validate(schemaName, materials, ruleConfigs, repository, snapshot.get()));
+            return snapshot.get().getSchema();
+        }
+        String fingerprint = getFingerprint(materials, ruleConfigs);
+        ShardingSphereSchema result = SchemaBuilder.build(materials);
+        executor.execute(() -> repository.persist(schemaName, new SchemaSnapshot(fingerprint, result)));
+        return result;
+    }
+    
+    private static void validate(final String schemaName, final SchemaBuilderMaterials materials,
+                                 final Collection<RuleConfiguration> ruleConfigs, final SchemaSnapshotRepository repository, final SchemaSnapshot snapshot) {
+        try {
+            String fingerprint = getFingerprint(materials, ruleConfigs);
+            if (fingerprint.equals(snapshot.getFingerprint())) {
+                return;
+            }
+            ShardingSphereSchema actualSchema = SchemaBuilder.build(materials);
+            snapshot.getSchema().replace(actualSchema);
+            repository.persist(schemaName, new SchemaSnapshot(fingerprint, actualSchema));
+            ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaName, actualSchema));
+        } catch (final SQLException ex) {
+            log.warn("Validate schema snapshot of `{}` failed.", schemaName, ex);
+        }
+    }
+    
+    private static String getFingerprint(final SchemaBuilderMaterials materials, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        StringBuilder result = new StringBuilder();
+        result.append(YamlEngine.marshal(new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(ruleConfigs)));
+        for (Entry<String, DataSource> entry : new TreeMap<>(materials.getDataSourceMap()).entrySet()) {
+            result.append(entry.getKey()).append('=');
+            appendFingerprint(result, materials.getDatabaseType(), entry.getValue());
+        }
+        return DigestUtils.sha256Hex(result.toString());
+    }
+    
+    private static void appendFingerprint(final StringBuilder fingerprint, final DatabaseType databaseType, final DataSource dataSource) throws SQLException {
+        try (MetaDataLoaderConnectionAdapter connection = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
+            fingerprint.append(connection.getMetaData().getURL()).append(System.lineSeparator());
+            try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), "%", "%")) {
+                while (resultSet.next()) {
+                    for (String each : COLUMN_FINGERPRINT_LABELS) {
+                        fingerprint.append(resultSet.getString(each)).append(',');
+                    }
+                    fingerprint.append(System.lineSeparator());
+                }
+            }
+            String indexSQL = INDEX_FINGERPRINT_SQLS.get(databaseType.getName());
+            if (null != indexSQL) {
+                appendIndexFingerprint(fingerprint, connection, indexSQL);
+            }
+        }
+    }
+    
+    private static void appendIndexFingerprint(final StringBuilder fingerprint, final Connection connection, final String indexSQL) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(indexSQL)) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            while (resultSet.next()) {
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    fingerprint.append(resultSet.getString(i)).append(',');
+                }
+                fingerprint.append(System.lineSeparator());
+            }
+        }
+    }
+}
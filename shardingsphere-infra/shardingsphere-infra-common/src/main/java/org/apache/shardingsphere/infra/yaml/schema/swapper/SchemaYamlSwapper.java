@@ -15,18 +15,17 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.governance.core.yaml.schema.swapper;
+package org.apache.shardingsphere.infra.yaml.schema.swapper;
 
 import com.google.common.collect.Maps;
-import org.apache.commons.collections4.MapUtils;
-import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlColumnMetaData;
-import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlIndexMetaData;
-import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlSchema;
-import org.apache.shardingsphere.governance.core.yaml.schema.pojo.YamlTableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlColumnMetaData;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlIndexMetaData;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlSchema;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlConfigurationSwapper;
 
 import java.util.Collection;
@@ -44,8 +43,8 @@ public final class SchemaYamlSwapper implements YamlConfigurationSwapper<YamlSch
     
     @Override
     public YamlSchema swapToYamlConfiguration(final ShardingSphereSchema schema) {
-        Map<String, YamlTableMetaData> tables = schema.getAllTableNames().stream()
-                .collect(Collectors.toMap(each -> each, each -> swapYamlTable(schema.get(each)), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+        Map<String, YamlTableMetaData> tables = schema.getLoadedTables().entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, entry -> swapYamlTable(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
         YamlSchema result = new YamlSchema();
         result.setTables(tables);
         return result;
@@ -57,7 +56,7 @@ public final class SchemaYamlSwapper implements YamlConfigurationSwapper<YamlSch
     }
     
     private ShardingSphereSchema swapSchema(final YamlSchema schema) {
-        return new ShardingSphereSchema(MapUtils.isEmpty(schema.getTables()) ? Maps.newLinkedHashMap() : schema.getTables().entrySet().stream()
+        return new ShardingSphereSchema(null == schema.getTables() || schema.getTables().isEmpty() ? Maps.newLinkedHashMap() : schema.getTables().entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> swapTable(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
     }
     
@@ -108,8 +107,7 @@ public final class SchemaYamlSwapper implements YamlConfigurationSwapper<YamlSch
         result.setCaseSensitive(column.isCaseSensitive());
         result.setGenerated(column.isGenerated());
         result.setPrimaryKey(column.isPrimaryKey());
-        result.setDataType(result.getDataType());
-        result.setDataTypeName(result.getDataTypeName());
+        result.setDataType(column.getDataType());
         return result;
     }
 }
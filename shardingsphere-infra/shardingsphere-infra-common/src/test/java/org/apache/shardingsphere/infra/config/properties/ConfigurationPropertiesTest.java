@@ -33,7 +33,9 @@ public final class ConfigurationPropertiesTest {
         Properties props = new Properties();
         props.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
         props.setProperty(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSE_TREE_TEMPLATE_ENABLED.getKey(), Boolean.TRUE.toString());
         props.setProperty(ConfigurationPropertyKey.EXECUTOR_SIZE.getKey(), "20");
+        props.setProperty(ConfigurationPropertyKey.EXECUTOR_MODE.getKey(), "VIRTUAL");
         props.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
         props.setProperty(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE.getKey(), "XA");
@@ -42,7 +44,9 @@ public final class ConfigurationPropertiesTest {
         ConfigurationProperties actual = new ConfigurationProperties(props);
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_PARSE_TREE_TEMPLATE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MODE), is("VIRTUAL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("XA"));
@@ -55,7 +59,9 @@ public final class ConfigurationPropertiesTest {
         ConfigurationProperties actual = new ConfigurationProperties(new Properties());
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_PARSE_TREE_TEMPLATE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_MODE), is("PLATFORM"));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE), is("LOCAL"));
@@ -59,6 +59,15 @@ public final class ShardingSphereSchemaTest {
         assertNull(actual.get("tbl"));
     }
     
+    @Test
+    public void assertReplace() {
+        ShardingSphereSchema actual = new ShardingSphereSchema(ImmutableMap.of("tbl", mock(TableMetaData.class)));
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        actual.replace(new ShardingSphereSchema(ImmutableMap.of("new_tbl", tableMetaData)));
+        assertThat(actual.getAllTableNames(), is(Sets.newHashSet("new_tbl")));
+        assertThat(actual.get("new_tbl"), is(tableMetaData));
+    }
+    
     @Test
     public void assertContainsTable() {
         assertTrue(new ShardingSphereSchema(ImmutableMap.of("tbl", mock(TableMetaData.class))).containsTable("tbl"));
@@ -19,10 +19,12 @@ package org.apache.shardingsphere.infra.metadata.schema.builder;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.CommonFixtureRule;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,6 +41,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -118,4 +121,53 @@ public final class SchemaBuilderTest {
         assertTrue(actual.containsTable(singleTableNames[1]));
         assertThat(actual.get(singleTableNames[1]).getColumns().size(), is(0));
     }
+    
+    @Test
+    @SneakyThrows(SQLException.class)
+    public void assertBuildWithLazyLoading() {
+        when(props.getValue(ConfigurationPropertyKey.SCHEMA_METADATA_LAZY_LOADING_ENABLED)).thenReturn(true);
+        when(props.getValue(ConfigurationPropertyKey.SCHEMA_METADATA_CACHE_SIZE)).thenReturn(16);
+        ResultSet resultSet = mock(ResultSet.class, Answers.RETURNS_DEEP_STUBS);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class, Answers.RETURNS_DEEP_STUBS);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(connection.getCatalog()).thenReturn(TEST_CATALOG);
+        when(connection.getSchema()).thenReturn(TEST_SCHEMA);
+        when(databaseType.getSchema(connection)).thenReturn(TEST_SCHEMA);
+        when(databaseMetaData.getTables(connection.getCatalog(), connection.getSchema(), null, new String[]{TABLE_TYPE, VIEW_TYPE})).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, true, true, true, false);
+        String[] mockReturnTables = {singleTableNames[1], "data_node_routed_table1_0", "data_node_routed_table1_1", "data_node_routed_table2_0", "data_node_routed_table2_1"};
+        when(resultSet.getString(TABLE_NAME)).thenReturn(singleTableNames[0], mockReturnTables);
+        ShardingSphereSchema actual = SchemaBuilder.build(schemaBuilderMaterials);
+        assertTrue(actual.isLazyLoaded());
+        assertThat(actual.getAllTableNames().size(), is(4));
+        assertSchemaOfShardingTables(actual);
+        assertTrue(actual.containsTable(singleTableNames[0]));
+        assertTrue(actual.containsTable(singleTableNames[1]));
+        actual.remove(singleTableNames[0]);
+        assertFalse(actual.containsTable(singleTableNames[0]));
+    }
+    
+    @Test
+    public void assertRebuildWithOriginalSingleTables() throws SQLException {
+        ShardingSphereSchema originalSchema = new ShardingSphereSchema();
+        TableMetaData singleTableMetaData = new TableMetaData();
+        originalSchema.put(singleTableNames[0], singleTableMetaData);
+        originalSchema.put("data_node_routed_table1_0", new TableMetaData());
+        ShardingSphereSchema actual = SchemaBuilder.build(schemaBuilderMaterials, originalSchema, Collections.singletonList(new CommonFixtureRule()));
+        assertThat(actual.getAllTableNames().size(), is(3));
+        assertSchemaOfShardingTables(actual);
+        assertThat(actual.get(singleTableNames[0]), is(singleTableMetaData));
+        assertFalse(actual.containsTable("data_node_routed_table1_0"));
+    }
+    
+    @Test
+    public void assertRebuildWithRemovedRuleTables() throws SQLException {
+        ShardingSphereSchema originalSchema = new ShardingSphereSchema();
+        originalSchema.put(singleTableNames[0], new TableMetaData());
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(databaseType, Collections.singletonMap("logic_db", dataSource), Collections.singletonList(new CommonFixtureRule()), props);
+        ShardingSphereSchema actual = SchemaBuilder.build(materials, originalSchema, Arrays.asList(new CommonFixtureRule(), new DataNodeContainedFixtureRule()));
+        assertFalse(actual.containsTable(singleTableNames[0]));
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class LazyTableMetaDataLoaderTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DatabaseType databaseType;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DataSource dataSource;
+    
+    @Test
+    public void assertContainsTable() {
+        LazyTableMetaDataLoader loader = createLoader(16);
+        assertThat(loader.getAllTableNames().size(), is(2));
+        assertTrue(loader.containsTable("T_ORDER"));
+        assertTrue(loader.containsTable("t_order_item"));
+        assertFalse(loader.containsTable("t_other"));
+    }
+    
+    @Test
+    public void assertLoadOnFirstAccess() throws SQLException {
+        LazyTableMetaDataLoader loader = createLoader(16);
+        verify(dataSource, never()).getConnection();
+        TableMetaData actual = loader.load("T_ORDER");
+        assertNotNull(actual);
+        assertThat(loader.load("t_order"), sameInstance(actual));
+        verify(dataSource).getConnection();
+    }
+    
+    @Test
+    public void assertLoadWithoutLazyTable() throws SQLException {
+        assertNull(createLoader(16).load("t_other"));
+        verify(dataSource, never()).getConnection();
+    }
+    
+    @Test
+    public void assertPrefetch() throws SQLException {
+        LazyTableMetaDataLoader loader = createLoader(16);
+        loader.prefetch(Arrays.asList("t_order", "t_order_item", "t_other"));
+        verify(dataSource, times(2)).getConnection();
+        loader.load("t_order");
+        loader.load("t_order_item");
+        loader.prefetch(Collections.singletonList("t_order"));
+        verify(dataSource, times(2)).getConnection();
+    }
+    
+    @Test
+    public void assertLoadAfterCacheEvicted() throws SQLException {
+        LazyTableMetaDataLoader loader = createLoader(1);
+        TableMetaData orderTableMetaData = loader.load("t_order");
+        loader.load("t_order_item");
+        assertThat(loader.load("t_order"), not(sameInstance(orderTableMetaData)));
+        verify(dataSource, times(3)).getConnection();
+    }
+    
+    @Test
+    public void assertPutOverridesLazyEntry() throws SQLException {
+        LazyTableMetaDataLoader loader = createLoader(16);
+        loader.load("t_order");
+        TableMetaData tableMetaData = new TableMetaData();
+        loader.put("T_ORDER", tableMetaData);
+        assertThat(loader.load("t_order"), sameInstance(tableMetaData));
+        verify(dataSource).getConnection();
+    }
+    
+    @Test
+    public void assertRemoveOverridesLazyEntry() throws SQLException {
+        LazyTableMetaDataLoader loader = createLoader(16);
+        loader.load("t_order");
+        loader.remove("T_ORDER");
+        assertFalse(loader.containsTable("t_order"));
+        assertThat(loader.getAllTableNames(), is(Collections.singleton("t_order_item")));
+        assertNull(loader.load("t_order"));
+        verify(dataSource).getConnection();
+    }
+    
+    @Test
+    public void assertGetLoadedTables() throws SQLException {
+        LazyTableMetaDataLoader loader = createLoader(16);
+        assertTrue(loader.getLoadedTables().isEmpty());
+        TableMetaData tableMetaData = loader.load("t_order");
+        assertThat(loader.getLoadedTables(), is(Collections.singletonMap("t_order", tableMetaData)));
+        verify(dataSource).getConnection();
+    }
+    
+    private LazyTableMetaDataLoader createLoader(final int cacheSize) {
+        Map<String, String> tableDataSourceNames = new LinkedHashMap<>(2, 1);
+        tableDataSourceNames.put("T_ORDER", "ds_0");
+        tableDataSourceNames.put("t_order_item", "ds_0");
+        return new LazyTableMetaDataLoader(databaseType, Collections.singletonMap("ds_0", dataSource), tableDataSourceNames, cacheSize);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FileSchemaSnapshotRepositoryTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private FileSchemaSnapshotRepository repository;
+    
+    @Before
+    public void setUp() throws IOException {
+        repository = new FileSchemaSnapshotRepository(temporaryFolder.newFolder().getAbsolutePath());
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshot() {
+        assertFalse(repository.load("logic_db").isPresent());
+    }
+    
+    @Test
+    public void assertPersistAndLoad() {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", Types.BIGINT, true, false, false)), Collections.emptyList()));
+        repository.persist("logic_db", new SchemaSnapshot("foo_fingerprint", schema));
+        Optional<SchemaSnapshot> actual = repository.load("logic_db");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getFingerprint(), is("foo_fingerprint"));
+        assertThat(actual.get().getSchema().getAllTableNames(), is(Collections.singleton("t_order")));
+        assertThat(actual.get().getSchema().get("t_order").getColumns().get("order_id"), is(new ColumnMetaData("order_id", Types.BIGINT, true, false, false)));
+    }
+    
+    @Test
+    public void assertDelete() {
+        repository.persist("logic_db", new SchemaSnapshot("foo_fingerprint", new ShardingSphereSchema()));
+        repository.delete("logic_db");
+        assertFalse(repository.load("logic_db").isPresent());
+    }
+}
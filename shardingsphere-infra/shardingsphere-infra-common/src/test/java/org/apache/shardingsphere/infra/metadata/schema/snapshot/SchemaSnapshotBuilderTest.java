@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.CommonFixtureRule;
+import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SchemaSnapshotBuilderTest {
+    
+    private final Collection<SchemaAlteredEvent> schemaAlteredEvents = new LinkedList<>();
+    
+    private SchemaBuilderMaterials materials;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DatabaseType databaseType;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DataSource dataSource;
+    
+    @Mock
+    private ConfigurationProperties props;
+    
+    @Mock
+    private SchemaSnapshotRepository repository;
+    
+    @Before
+    public void setUp() {
+        materials = new SchemaBuilderMaterials(databaseType, Collections.singletonMap("logic_db", dataSource), Arrays.asList(new CommonFixtureRule(), new DataNodeContainedFixtureRule()), props);
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingSphereEventBus.getInstance().unregister(this);
+    }
+    
+    @Subscribe
+    public void onSchemaAltered(final SchemaAlteredEvent event) {
+        schemaAlteredEvents.add(event);
+    }
+    
+    @Test
+    public void assertBuildWithoutSnapshot() throws SQLException {
+        when(repository.load("logic_db")).thenReturn(Optional.empty());
+        ShardingSphereSchema actual = build();
+        assertSchemaOfShardingTables(actual);
+        ArgumentCaptor<SchemaSnapshot> snapshot = ArgumentCaptor.forClass(SchemaSnapshot.class);
+        verify(repository).persist(eq("logic_db"), snapshot.capture());
+        assertThat(snapshot.getValue().getSchema(), is(actual));
+        assertTrue(schemaAlteredEvents.isEmpty());
+    }
+    
+    @Test
+    public void assertBuildWithUpToDateSnapshot() throws SQLException {
+        when(repository.load("logic_db")).thenReturn(Optional.empty());
+        build();
+        ArgumentCaptor<SchemaSnapshot> snapshot = ArgumentCaptor.forClass(SchemaSnapshot.class);
+        verify(repository).persist(eq("logic_db"), snapshot.capture());
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        when(repository.load("logic_db")).thenReturn(Optional.of(new SchemaSnapshot(snapshot.getValue().getFingerprint(), schema)));
+        ShardingSphereSchema actual = build();
+        assertThat(actual, is(schema));
+        assertTrue(actual.getAllTableNames().isEmpty());
+        verify(repository).persist(eq("logic_db"), any(SchemaSnapshot.class));
+        assertTrue(schemaAlteredEvents.isEmpty());
+    }
+    
+    @Test
+    public void assertBuildWithStaleSnapshot() throws SQLException {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_stale", new TableMetaData());
+        Map<String, TableMetaData> staleTables = schema.getLoadedTables();
+        when(repository.load("logic_db")).thenReturn(Optional.of(new SchemaSnapshot("stale_fingerprint", schema)));
+        ShardingSphereSchema actual = build();
+        assertThat(actual, is(schema));
+        assertFalse(actual.containsTable("t_stale"));
+        assertSchemaOfShardingTables(actual);
+        assertThat(staleTables.keySet(), is(Collections.singleton("t_stale")));
+        ArgumentCaptor<SchemaSnapshot> snapshot = ArgumentCaptor.forClass(SchemaSnapshot.class);
+        verify(repository).persist(eq("logic_db"), snapshot.capture());
+        assertThat(snapshot.getValue().getFingerprint(), not("stale_fingerprint"));
+        assertThat(schemaAlteredEvents.size(), is(1));
+        SchemaAlteredEvent event = schemaAlteredEvents.iterator().next();
+        assertThat(event.getSchemaName(), is("logic_db"));
+        assertThat(event.getSchema(), not(schema));
+        assertSchemaOfShardingTables(event.getSchema());
+    }
+    
+    @Test
+    public void assertBuildWithStaleSnapshotWhenRebuildFailed() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(SQLException.class);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.put("t_stale", new TableMetaData());
+        when(repository.load("logic_db")).thenReturn(Optional.of(new SchemaSnapshot("stale_fingerprint", schema)));
+        ShardingSphereSchema actual = build();
+        assertTrue(actual.containsTable("t_stale"));
+        verify(repository, never()).persist(eq("logic_db"), any(SchemaSnapshot.class));
+        assertTrue(schemaAlteredEvents.isEmpty());
+    }
+    
+    private ShardingSphereSchema build() throws SQLException {
+        return SchemaSnapshotBuilder.build("logic_db", materials, Collections.emptyList(), repository, Runnable::run);
+    }
+    
+    private void assertSchemaOfShardingTables(final ShardingSphereSchema actual) {
+        assertTrue(actual.containsTable("data_node_routed_table1"));
+        assertTrue(actual.get("data_node_routed_table1").getColumns().containsKey("id"));
+        assertTrue(actual.containsTable("data_node_routed_table2"));
+        assertTrue(actual.get("data_node_routed_table2").getColumns().containsKey("id"));
+    }
+}
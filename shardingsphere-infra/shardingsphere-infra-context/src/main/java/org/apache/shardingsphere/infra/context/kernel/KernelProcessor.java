@@ -27,8 +27,11 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
+import java.util.Map;
+
 /**
  * Kernel processor.
  */
@@ -50,6 +53,24 @@ public final class KernelProcessor {
         return result;
     }
     
+    /**
+     * Generate execution context with rewritten SQL of route units reused.
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @param routeSQLs rewritten SQL of route units, which are reused by logic SQL of the same statement with other parameters
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final Map<RouteUnit, String> routeSQLs) {
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        SQLRewriteResult rewriteResult = new SQLRewriteEntry(metaData.getSchema(), props, metaData.getRuleMetaData().getRules())
+                .rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext, routeSQLs);
+        ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+        logSQL(logicSQL, props, result);
+        return result;
+    }
+    
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
         return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
     }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataCon
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorMode;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.CachedDatabaseMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
@@ -33,6 +34,8 @@ import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.FileSchemaSnapshotRepository;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotBuilder;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRulesBuilder;
 
@@ -75,7 +78,8 @@ public final class MetaDataContextsBuilder {
         this.schemaRuleConfigs = schemaRuleConfigs;
         this.globalRuleConfigs = globalRuleConfigs;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE),
+                ExecutorMode.getValueOf(this.props.<String>getValue(ConfigurationPropertyKey.EXECUTOR_MODE)));
     }
     
     /**
@@ -98,7 +102,7 @@ public final class MetaDataContextsBuilder {
         DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSourceMap.values());
         Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.buildSchemaRules(schemaName, ruleConfigs, databaseType, dataSourceMap);
         ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(ruleConfigs, rules);
-        return new ShardingSphereMetaData(schemaName, buildResource(databaseType, dataSourceMap), ruleMetaData, buildSchema(databaseType, dataSourceMap, rules));
+        return new ShardingSphereMetaData(schemaName, buildResource(databaseType, dataSourceMap), ruleMetaData, buildSchema(schemaName, databaseType, dataSourceMap, rules));
     }
 
     private ShardingSphereRuleMetaData buildGlobalSchemaMetaData(final Map<String, ShardingSphereMetaData> mataDataMap) {
@@ -132,7 +136,11 @@ public final class MetaDataContextsBuilder {
         }
     }
     
-    private ShardingSphereSchema buildSchema(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) throws SQLException {
-        return SchemaBuilder.build(new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props));
+    private ShardingSphereSchema buildSchema(final String schemaName, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap,
+                                             final Collection<ShardingSphereRule> rules) throws SQLException {
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props);
+        String snapshotPath = props.getValue(ConfigurationPropertyKey.SCHEMA_SNAPSHOT_PATH);
+        return snapshotPath.isEmpty() || props.<Boolean>getValue(ConfigurationPropertyKey.SCHEMA_METADATA_LAZY_LOADING_ENABLED)
+                ? SchemaBuilder.build(materials) : SchemaSnapshotBuilder.build(schemaName, materials, schemaRuleConfigs.get(schemaName), new FileSchemaSnapshotRepository(snapshotPath));
     }
 }
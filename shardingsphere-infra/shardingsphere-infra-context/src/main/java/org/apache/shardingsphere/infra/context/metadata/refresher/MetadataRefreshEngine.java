@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.infra.context.metadata.refresher;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.lock.LockNameUtil;
@@ -29,6 +31,7 @@ import org.apache.shardingsphere.infra.metadata.mapper.SQLStatementEventMapperFa
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.SchemaRefresher;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.FileSchemaSnapshotRepository;
 import org.apache.shardingsphere.infra.optimize.core.metadata.FederateSchemaMetadata;
 import org.apache.shardingsphere.infra.optimize.core.metadata.refresher.FederateRefresher;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -110,6 +113,14 @@ public final class MetadataRefreshEngine {
                 ((FederateRefresher) each).refresh(federateMetadata, routeDataSourceNames, sqlStatement, materials);
             }
         }
+        deleteSchemaSnapshot();
         ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaMetadata.getName(), schemaMetadata.getSchema()));
     }
+    
+    private void deleteSchemaSnapshot() {
+        String snapshotPath = materials.getProps().getValue(ConfigurationPropertyKey.SCHEMA_SNAPSHOT_PATH);
+        if (!Strings.isNullOrEmpty(snapshotPath)) {
+            new FileSchemaSnapshotRepository(snapshotPath).delete(schemaMetadata.getName());
+        }
+    }
 }
@@ -18,15 +18,19 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.kernel.model.PendingResultsFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorMode;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -44,7 +48,11 @@ public final class ExecutorEngine implements AutoCloseable {
     private final ExecutorServiceManager executorServiceManager;
     
     public ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, ExecutorMode.PLATFORM);
+    }
+    
+    public ExecutorEngine(final int executorSize, final ExecutorMode executorMode) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorMode);
     }
     
     /**
@@ -82,6 +90,40 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute without waiting for asynchronous execution groups.
+     * 
+     * <p>
+     * First execution group is executed in current thread, each input of other execution groups is represented by pending result which completes later.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param pendingResultsFactory pending results factory
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> execute(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                  final ExecutorCallback<I, O> callback, final PendingResultsFactory<O> pendingResultsFactory) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        Collection<O> pendingResults = new LinkedList<>();
+        while (executionGroups.hasNext()) {
+            for (ListenableFuture<O> each : asyncExecuteEachInput(executionGroups.next(), callback)) {
+                pendingResults.add(pendingResultsFactory.newInstance(each));
+            }
+        }
+        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        result.addAll(pendingResults);
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -114,6 +156,33 @@ public final class ExecutorEngine implements AutoCloseable {
         return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
+    private <I, O> List<ListenableFuture<O>> asyncExecuteEachInput(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+        List<SettableFuture<O>> result = new ArrayList<>(executionGroup.getInputs().size());
+        for (int i = 0; i < executionGroup.getInputs().size(); i++) {
+            result.add(SettableFuture.create());
+        }
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        executorServiceManager.getExecutorService().execute(() -> executeEachInput(executionGroup.getInputs(), callback, dataMap, result));
+        return new ArrayList<>(result);
+    }
+    
+    private <I, O> void executeEachInput(final Collection<I> inputs, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap, final List<SettableFuture<O>> futures) {
+        Iterator<SettableFuture<O>> futureIterator = futures.iterator();
+        for (I each : inputs) {
+            SettableFuture<O> future = futureIterator.next();
+            try {
+                Collection<O> outputs = callback.execute(Collections.singletonList(each), false, dataMap);
+                if (outputs.isEmpty()) {
+                    future.setException(new SQLException(String.format("Can not get execute result of `%s`, its asynchronous execution failed.", each)));
+                } else {
+                    future.set(outputs.iterator().next());
+                }
+            } catch (final SQLException | RuntimeException ex) {
+                future.setException(ex);
+            }
+        }
+    }
+    
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
         for (ListenableFuture<Collection<O>> each : restFutures) {
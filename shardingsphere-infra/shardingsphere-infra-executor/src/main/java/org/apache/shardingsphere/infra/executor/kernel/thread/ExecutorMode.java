@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+/**
+ * Executor mode.
+ */
+public enum ExecutorMode {
+    
+    /**
+     * Execute SQL on platform threads of worker group, which size is decided by {@code executor-size}.
+     */
+    PLATFORM,
+    
+    /**
+     * Execute SQL on virtual threads, one for each execution group.
+     * 
+     * <p>
+     * Only available on JVM which provides virtual threads, otherwise fall back to {@code PLATFORM}.
+     * </p>
+     */
+    VIRTUAL;
+    
+    /**
+     * Get executor mode by name.
+     * 
+     * @param name name of executor mode
+     * @return executor mode
+     */
+    public static ExecutorMode getValueOf(final String name) {
+        for (ExecutorMode each : values()) {
+            if (each.name().equalsIgnoreCase(name)) {
+                return each;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unsupported executor mode `%s`", name));
+    }
+}
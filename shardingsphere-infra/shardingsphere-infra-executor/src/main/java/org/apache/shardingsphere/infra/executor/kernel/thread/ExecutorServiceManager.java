@@ -20,7 +20,9 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -30,6 +32,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -43,7 +46,15 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, ExecutorMode.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final ExecutorMode executorMode) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorMode);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorMode executorMode) {
+        executorService = MoreExecutors.listeningDecorator(ExecutorMode.VIRTUAL == executorMode ? getVirtualExecutorService(executorSize, nameFormat) : getExecutorService(executorSize, nameFormat));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
@@ -52,6 +63,15 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualExecutorService(final int executorSize, final String nameFormat) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            log.warn("Virtual threads are not supported by current JVM, fall back to platform threads.");
+            return getExecutorService(executorSize, nameFormat);
+        }
+    }
+    
     /**
      * Close executor service.
      */
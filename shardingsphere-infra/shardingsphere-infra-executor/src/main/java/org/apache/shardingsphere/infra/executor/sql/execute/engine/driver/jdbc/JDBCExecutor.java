@@ -21,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending.PendingQueryResult;
 
 import java.sql.SQLException;
 import java.util.Collections;
@@ -68,4 +70,46 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute query without waiting for all execution groups finished.
+     * 
+     * <p>
+     * Query results of execution groups not finished yet are returned as {@link PendingQueryResult}, so that merger can consume query results as they complete.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResult> executeQueryIncrementally(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<QueryResult> callback) throws SQLException {
+        return executeQueryIncrementally(executionGroupContext, null, callback);
+    }
+    
+    /**
+     * Execute query without waiting for all execution groups finished.
+     * 
+     * <p>
+     * Query results of execution groups not finished yet are returned as {@link PendingQueryResult}, so that merger can consume query results as they complete.
+     * </p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResult> executeQueryIncrementally(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                       final JDBCExecutorCallback<QueryResult> firstCallback, final JDBCExecutorCallback<QueryResult> callback) throws SQLException {
+        if (serial) {
+            return execute(executionGroupContext, firstCallback, callback);
+        }
+        try {
+            return executorEngine.execute(executionGroupContext, firstCallback, callback, PendingQueryResult::new);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
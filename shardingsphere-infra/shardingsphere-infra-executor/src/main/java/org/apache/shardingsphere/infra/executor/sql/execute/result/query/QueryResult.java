@@ -79,8 +79,9 @@ public interface QueryResult extends ExecuteResult {
      * Get query result meta data.
      * 
      * @return query result meta data
+     * @throws SQLException SQL exception
      */
-    QueryResultMetaData getMetaData();
+    QueryResultMetaData getMetaData() throws SQLException;
     
     /**
      * Close.
@@ -19,17 +19,17 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * JDBC rows loader.
@@ -38,42 +38,109 @@ import java.util.List;
 public final class JDBCRowsLoader {
     
     /**
-     * Load rows.
-     * 
-     * @param columnCount column count
+     * Load columns.
+     *
      * @param resultSet result set of JDBC
-     * @return Query result data rows
+     * @return query result columns
      * @throws SQLException SQL exception
      */
-    public static Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public static MemoryQueryResultColumn[] loadColumns(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        int[] columnTypes = getColumnTypes(metaData, columnCount);
+        boolean[] signedFlags = getSignedFlags(metaData, columnTypes);
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = createColumn(columnTypes[i], signedFlags[i]);
+        }
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            for (int i = 0; i < columnCount; i++) {
+                loadColumnValue(resultSet, i + 1, columnTypes[i], signedFlags[i], result[i]);
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
         }
         return result;
     }
     
+    private static int[] getColumnTypes(final ResultSetMetaData metaData, final int columnCount) throws SQLException {
+        int[] result = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = metaData.getColumnType(i + 1);
+        }
+        return result;
+    }
+    
+    private static boolean[] getSignedFlags(final ResultSetMetaData metaData, final int[] columnTypes) throws SQLException {
+        boolean[] result = new boolean[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            result[i] = (Types.INTEGER == columnTypes[i] || Types.BIGINT == columnTypes[i]) && metaData.isSigned(i + 1);
+        }
+        return result;
+    }
+    
+    private static MemoryQueryResultColumn createColumn(final int columnType, final boolean signed) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntMemoryQueryResultColumn();
+            case Types.INTEGER:
+                return signed ? new IntMemoryQueryResultColumn() : new LongMemoryQueryResultColumn();
+            case Types.BIGINT:
+                return signed ? new LongMemoryQueryResultColumn() : new ObjectMemoryQueryResultColumn();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            default:
+                return new ObjectMemoryQueryResultColumn();
+        }
+    }
+    
+    private static void loadColumnValue(final ResultSet resultSet, final int columnIndex, final int columnType, final boolean signed, final MemoryQueryResultColumn column) throws SQLException {
+        if (column instanceof IntMemoryQueryResultColumn) {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                ((IntMemoryQueryResultColumn) column).add(value);
+            }
+        } else if (column instanceof LongMemoryQueryResultColumn) {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                ((LongMemoryQueryResultColumn) column).add(value);
+            }
+        } else if (column instanceof DoubleMemoryQueryResultColumn) {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                ((DoubleMemoryQueryResultColumn) column).add(value);
+            }
+        } else {
+            Object value = loadValue(resultSet, columnIndex, columnType, signed);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                ((ObjectMemoryQueryResultColumn) column).add(value);
+            }
+        }
+    }
+    
     @SuppressWarnings("ReturnOfNull")
-    private static Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private static Object loadValue(final ResultSet resultSet, final int columnIndex, final int columnType, final boolean signed) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
             case Types.SMALLINT:
                 return resultSet.getInt(columnIndex);
             case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
+                if (signed) {
                     return resultSet.getInt(columnIndex);
                 }
                 return resultSet.getLong(columnIndex);
             case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
+                if (signed) {
                     return resultSet.getLong(columnIndex);
                 }
                 BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Iterator of query results in completion order.
+ * 
+ * <p>
+ * Query results which are ready come first, pending query results come in the order their executions finish.
+ * </p>
+ */
+public final class CompletionOrderIterator implements Iterator<QueryResult> {
+    
+    private final BlockingQueue<QueryResult> completedQueryResults;
+    
+    private final int size;
+    
+    private int returnedCount;
+    
+    public CompletionOrderIterator(final Collection<QueryResult> queryResults) {
+        completedQueryResults = new LinkedBlockingQueue<>(queryResults.size());
+        size = queryResults.size();
+        for (QueryResult each : queryResults) {
+            if (!(each instanceof PendingQueryResult)) {
+                completedQueryResults.add(each);
+            }
+        }
+        for (QueryResult each : queryResults) {
+            if (each instanceof PendingQueryResult) {
+                ((PendingQueryResult) each).addListener(() -> completedQueryResults.add(each));
+            }
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return returnedCount < size;
+    }
+    
+    @Override
+    public QueryResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        returnedCount++;
+        return Uninterruptibles.takeUninterruptibly(completedQueryResults);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Pending query result, which waits for the query result executed asynchronously on first access.
+ */
+public final class PendingQueryResult implements QueryResult {
+    
+    @Getter
+    private final ListenableFuture<QueryResult> future;
+    
+    private QueryResult delegate;
+    
+    public PendingQueryResult(final ListenableFuture<QueryResult> future) {
+        this.future = future;
+    }
+    
+    /**
+     * Judge whether query result is ready to read without waiting.
+     * 
+     * @return is ready or not
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+    
+    /**
+     * Add listener which will be called when query result is ready.
+     * 
+     * @param listener listener
+     */
+    public void addListener(final Runnable listener) {
+        future.addListener(listener, MoreExecutors.directExecutor());
+    }
+    
+    private QueryResult getDelegate() throws SQLException {
+        if (null == delegate) {
+            delegate = await();
+        }
+        return delegate;
+    }
+    
+    private QueryResult await() throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return getDelegate().next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getDelegate().getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getDelegate().getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getDelegate().getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return getDelegate().wasNull();
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() throws SQLException {
+        return getDelegate().getMetaData();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        getDelegate().close();
+    }
+}
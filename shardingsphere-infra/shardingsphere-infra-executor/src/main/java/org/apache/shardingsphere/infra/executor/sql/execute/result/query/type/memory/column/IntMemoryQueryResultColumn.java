@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+
+/**
+ * Memory query result column for int values.
+ */
+public final class IntMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private int[] values = new int[INITIAL_CAPACITY];
+    
+    /**
+     * Add value.
+     * 
+     * @param value value
+     */
+    public void add(final int value) {
+        values[nextIndex()] = value;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.BitSet;
+
+/**
+ * Memory query result column, which stores values of a column for all rows.
+ */
+public abstract class MemoryQueryResultColumn {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nullFlags = new BitSet();
+    
+    private int size;
+    
+    /**
+     * Get row size.
+     * 
+     * @return row size
+     */
+    public final int size() {
+        return size;
+    }
+    
+    /**
+     * Add null value.
+     */
+    public final void addNull() {
+        nullFlags.set(size);
+        ensureCapacity(size + 1);
+        size++;
+    }
+    
+    protected final int nextIndex() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value, null if value is null
+     */
+    public final Object getValue(final int rowIndex) {
+        return nullFlags.get(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    protected abstract void ensureCapacity(int capacity);
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+    
+    protected static int grow(final int currentCapacity, final int minCapacity) {
+        int result = currentCapacity;
+        while (result < minCapacity) {
+            result <<= 1;
+        }
+        return result;
+    }
+}
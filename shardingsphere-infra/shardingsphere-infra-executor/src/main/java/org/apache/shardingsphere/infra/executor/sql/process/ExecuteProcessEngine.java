@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.infra.executor.sql.process;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -86,4 +89,20 @@ public final class ExecuteProcessEngine {
             HANDLERS.iterator().next().report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
         }
     }
+    
+    /**
+     * Finish after all pending executions completed.
+     *
+     * @param executionID execution ID
+     * @param pendingExecutions futures of pending executions
+     */
+    public static void finishOnCompletion(final String executionID, final Collection<? extends ListenableFuture<?>> pendingExecutions) {
+        if (pendingExecutions.isEmpty()) {
+            finish(executionID);
+            return;
+        }
+        if (!HANDLERS.isEmpty() && ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
+            Futures.whenAllComplete(pendingExecutions).run(() -> HANDLERS.iterator().next().report(executionID, ExecuteProcessConstants.EXECUTE_STATUS_DONE), MoreExecutors.directExecutor());
+        }
+    }
 }
@@ -17,21 +17,29 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorMode;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -88,6 +96,51 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithVirtualExecutorMode() throws SQLException, InterruptedException {
+        ExecutorEngine virtualExecutorEngine = new ExecutorEngine(10, ExecutorMode.VIRTUAL);
+        try {
+            List<String> actual = virtualExecutorEngine.execute(executionGroupContext, firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        } finally {
+            virtualExecutorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteWithPendingResults() throws SQLException, InterruptedException, ExecutionException {
+        List<ListenableFuture<String>> futures = new LinkedList<>();
+        List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, future -> {
+            futures.add(future);
+            return "pending";
+        });
+        latch.await();
+        assertThat(actual, is(Arrays.asList("succeed", "succeed", "pending", "pending")));
+        assertThat(futures.size(), is(2));
+        assertThat(futures.get(0).get(), is("succeed"));
+        assertThat(futures.get(1).get(), is("succeed"));
+    }
+    
+    @Test
+    public void assertExecuteWithFailedPendingResult() throws SQLException, InterruptedException, ExecutionException {
+        Object failedInput = executionGroupContext.getInputGroups().stream().skip(1L).findFirst().get().getInputs().get(0);
+        List<ListenableFuture<String>> futures = new LinkedList<>();
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, dataMap)
+            -> inputs.contains(failedInput) ? Collections.<String>emptyList() : callback.execute(inputs, isTrunkThread, dataMap);
+        executorEngine.execute(executionGroupContext, firstCallback, failedCallback, future -> {
+            futures.add(future);
+            return "pending";
+        });
+        try {
+            futures.get(0).get();
+            fail("Expected failed future.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+        assertThat(futures.get(1).get(), is("succeed"));
+    }
+    
     @Test
     public void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending;
+
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class CompletionOrderIteratorTest {
+    
+    @Test
+    public void assertIterateInCompletionOrder() {
+        QueryResult readyQueryResult = mock(QueryResult.class);
+        SettableFuture<QueryResult> slowFuture = SettableFuture.create();
+        SettableFuture<QueryResult> fastFuture = SettableFuture.create();
+        PendingQueryResult slowQueryResult = new PendingQueryResult(slowFuture);
+        PendingQueryResult fastQueryResult = new PendingQueryResult(fastFuture);
+        Iterator<QueryResult> actual = new CompletionOrderIterator(Arrays.asList(readyQueryResult, slowQueryResult, fastQueryResult));
+        assertTrue(actual.hasNext());
+        assertThat(actual.next(), is(readyQueryResult));
+        fastFuture.set(mock(QueryResult.class));
+        assertThat(actual.next(), is(fastQueryResult));
+        slowFuture.set(mock(QueryResult.class));
+        assertThat(actual.next(), is(slowQueryResult));
+        assertFalse(actual.hasNext());
+    }
+}
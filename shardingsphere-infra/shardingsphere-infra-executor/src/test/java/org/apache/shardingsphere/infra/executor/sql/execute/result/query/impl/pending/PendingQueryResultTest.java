@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PendingQueryResultTest {
+    
+    @Test
+    public void assertNextAfterFutureCompleted() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true);
+        when(queryResult.getValue(1, Object.class)).thenReturn("value");
+        SettableFuture<QueryResult> future = SettableFuture.create();
+        PendingQueryResult actual = new PendingQueryResult(future);
+        assertFalse(actual.isDone());
+        future.set(queryResult);
+        assertTrue(actual.isDone());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("value"));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithFailedFuture() throws SQLException {
+        new PendingQueryResult(Futures.immediateFailedFuture(new SQLException("failed"))).next();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetMetaDataWithFailedFuture() throws SQLException {
+        new PendingQueryResult(Futures.immediateFailedFuture(new SQLException("failed"))).getMetaData();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertCloseWithFailedFuture() throws SQLException {
+        new PendingQueryResult(Futures.immediateFailedFuture(new SQLException("failed"))).close();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        new PendingQueryResult(Futures.immediateFuture(queryResult)).close();
+        verify(queryResult).close();
+    }
+    
+    @Test
+    public void assertListenerCalledAfterFutureCompleted() {
+        SettableFuture<QueryResult> future = SettableFuture.create();
+        boolean[] called = new boolean[1];
+        new PendingQueryResult(future).addListener(() -> called[0] = true);
+        assertFalse(called[0]);
+        future.set(mock(QueryResult.class));
+        assertTrue(called[0]);
+    }
+}
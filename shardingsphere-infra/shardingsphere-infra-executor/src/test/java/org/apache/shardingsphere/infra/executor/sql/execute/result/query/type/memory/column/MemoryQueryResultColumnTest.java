@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class MemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertAddAndGetValueBeyondInitialCapacity() {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        for (long i = 0; i < 100; i++) {
+            column.add(i);
+        }
+        assertThat(column.size(), is(100));
+        assertThat(column.getValue(0), is(0L));
+        assertThat(column.getValue(99), is(99L));
+    }
+    
+    @Test
+    public void assertGetNullValue() {
+        IntMemoryQueryResultColumn column = new IntMemoryQueryResultColumn();
+        column.add(1);
+        column.addNull();
+        column.add(0);
+        assertThat(column.size(), is(3));
+        assertThat(column.getValue(0), is(1));
+        assertNull(column.getValue(1));
+        assertThat(column.getValue(2), is(0));
+    }
+    
+    @Test
+    public void assertGetDoubleAndObjectValue() {
+        DoubleMemoryQueryResultColumn doubleColumn = new DoubleMemoryQueryResultColumn();
+        doubleColumn.add(1.5D);
+        assertThat(doubleColumn.getValue(0), is(1.5D));
+        ObjectMemoryQueryResultColumn objectColumn = new ObjectMemoryQueryResultColumn();
+        objectColumn.add("value");
+        objectColumn.addNull();
+        assertThat(objectColumn.getValue(0), is("value"));
+        assertNull(objectColumn.getValue(1));
+    }
+}
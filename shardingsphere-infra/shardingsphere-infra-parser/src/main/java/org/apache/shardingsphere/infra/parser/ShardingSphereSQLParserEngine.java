@@ -17,25 +17,45 @@
 
 package org.apache.shardingsphere.infra.parser;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.distsql.parser.api.DistSQLStatementClassifier;
 import org.apache.shardingsphere.distsql.parser.api.DistSQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * ShardingSphere SQL parser engine.
  */
 public final class ShardingSphereSQLParserEngine {
     
+    private static final int UNPARSABLE_SQL_CACHE_MAXIMUM_SIZE = 1024;
+    
+    private static final Map<String, Cache<String, String>> UNPARSABLE_SQL_CACHES = new ConcurrentHashMap<>();
+    
     private final SQLStatementParserEngine sqlStatementParserEngine;
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
+    private final Cache<String, String> unparsableSQLCache;
+    
+    private final boolean parseTreeTemplateEnabled;
+    
     public ShardingSphereSQLParserEngine(final String databaseTypeName) {
+        this(databaseTypeName, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final String databaseTypeName, final boolean parseTreeTemplateEnabled) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseTypeName);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
+        unparsableSQLCache = UNPARSABLE_SQL_CACHES.computeIfAbsent(databaseTypeName, key -> CacheBuilder.newBuilder().maximumSize(UNPARSABLE_SQL_CACHE_MAXIMUM_SIZE).build());
+        this.parseTreeTemplateEnabled = parseTreeTemplateEnabled;
     }
     
     /*
@@ -63,14 +83,22 @@ public final class ShardingSphereSQLParserEngine {
     }
     
     private SQLStatement parse0(final String sql, final boolean useCache) {
-        try {
-            return sqlStatementParserEngine.parse(sql, useCache);
-        } catch (final SQLParsingException | ParseCancellationException originalEx) {
+        String unparsableMessage = unparsableSQLCache.getIfPresent(sql);
+        if (null != unparsableMessage) {
+            throw new SQLParsingException(unparsableMessage);
+        }
+        if (DistSQLStatementClassifier.isDistSQL(sql)) {
             try {
                 return distSQLStatementParserEngine.parse(sql);
             } catch (final SQLParsingException ignored) {
-                throw originalEx;
+                // Some dialects share leading keywords with dist SQL, such as DROP RESOURCE GROUP of MySQL.
             }
         }
+        try {
+            return sqlStatementParserEngine.parse(sql, useCache, parseTreeTemplateEnabled);
+        } catch (final SQLParsingException | ParseCancellationException ex) {
+            unparsableSQLCache.put(sql, null == ex.getMessage() ? String.format("Unsupported SQL of `%s`", sql) : ex.getMessage());
+            throw ex;
+        }
     }
 }
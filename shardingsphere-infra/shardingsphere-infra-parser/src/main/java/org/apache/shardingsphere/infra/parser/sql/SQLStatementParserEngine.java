@@ -42,9 +42,13 @@ public final class SQLStatementParserEngine {
      *
      * @param sql SQL to be parsed
      * @param useCache whether use cache
+     * @param useParseTreeTemplate whether use parse tree template if not use cache
      * @return SQL statement
      */
-    public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
+    public SQLStatement parse(final String sql, final boolean useCache, final boolean useParseTreeTemplate) {
+        if (useCache) {
+            return sqlStatementCache.getUnchecked(sql);
+        }
+        return useParseTreeTemplate ? sqlStatementParserExecutor.parseWithTemplate(sql) : sqlStatementParserExecutor.parse(sql);
     }
 }
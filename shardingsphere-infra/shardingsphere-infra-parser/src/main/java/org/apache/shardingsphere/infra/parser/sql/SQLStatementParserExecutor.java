@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLTemplateParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -28,12 +30,18 @@ import java.util.Properties;
  */
 public final class SQLStatementParserExecutor {
     
+    private final SQLFastPathParserEngine fastPathParserEngine;
+    
     private final SQLParserEngine parserEngine;
     
+    private final SQLTemplateParserEngine templateParserEngine;
+    
     private final SQLVisitorEngine visitorEngine;
     
     public SQLStatementParserExecutor(final String databaseType) {
+        fastPathParserEngine = new SQLFastPathParserEngine(databaseType);
         parserEngine = new SQLParserEngine(databaseType);
+        templateParserEngine = new SQLTemplateParserEngine(databaseType);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
     }
     
@@ -44,6 +52,16 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return fastPathParserEngine.parse(sql).orElseGet(() -> visitorEngine.visit(parserEngine.parse(sql, false)));
+    }
+    
+    /**
+     * Parse to SQL statement with parse tree template.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parseWithTemplate(final String sql) {
+        return fastPathParserEngine.parse(sql).orElseGet(() -> templateParserEngine.parse(sql, visitorEngine::visit));
     }
 }
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
@@ -26,6 +28,7 @@ import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
@@ -71,6 +74,41 @@ public final class SQLRewriteEntry {
                 ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext);
     }
     
+    /**
+     * Rewrite with rewritten SQL of route units reused.
+     *
+     * <p>
+     * Parameters are always rewritten, SQL tokens are only generated if some route unit is absent from route SQLs.
+     * Route SQLs are reused only for non-select statements with parameters, and insert statements must have single values, so that SQL is decided by route unit only.
+     * </p>
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param routeSQLs rewritten SQL of route units, which are filled by rewriting
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext,
+                                    final RouteContext routeContext, final Map<RouteUnit, String> routeSQLs) {
+        if (!isRouteSQLReusable(parameters, sqlStatementContext, routeContext)) {
+            return rewrite(sql, parameters, sqlStatementContext, routeContext);
+        }
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(schema, sqlStatementContext, sql, parameters);
+        decorate(decorators, sqlRewriteContext, routeContext);
+        if (!routeSQLs.keySet().containsAll(routeContext.getRouteUnits())) {
+            sqlRewriteContext.generateSQLTokens();
+        }
+        return new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext, routeSQLs);
+    }
+    
+    private boolean isRouteSQLReusable(final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+        if (parameters.isEmpty() || routeContext.getRouteUnits().isEmpty() || sqlStatementContext instanceof SelectStatementContext) {
+            return false;
+        }
+        return !(sqlStatementContext instanceof InsertStatementContext) || 1 == ((InsertStatementContext) sqlStatementContext).getInsertValueContexts().size();
+    }
+    
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext result = new SQLRewriteContext(schema, sqlStatementContext, sql, parameters);
         decorate(decorators, result, routeContext);
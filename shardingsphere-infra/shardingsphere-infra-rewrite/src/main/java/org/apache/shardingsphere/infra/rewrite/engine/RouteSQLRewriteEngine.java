@@ -24,7 +24,7 @@ import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
-import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLTemplate;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
@@ -48,8 +48,34 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        RouteSQLTemplate routeSQLTemplate = new RouteSQLTemplate(sqlRewriteContext);
         for (RouteUnit each : routeContext.getRouteUnits()) {
-            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            result.put(each, new SQLRewriteUnit(routeSQLTemplate.toSQL(each), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+        }
+        return new RouteSQLRewriteResult(result);
+    }
+    
+    /**
+     * Rewrite SQL and parameters with rewritten SQL of route units reused.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @param routeSQLs rewritten SQL of route units, absent route units are rewritten and put into it
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Map<RouteUnit, String> routeSQLs) {
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        RouteSQLTemplate routeSQLTemplate = null;
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String sql = routeSQLs.get(each);
+            if (null == sql) {
+                if (null == routeSQLTemplate) {
+                    routeSQLTemplate = new RouteSQLTemplate(sqlRewriteContext);
+                }
+                sql = routeSQLTemplate.toSQL(each);
+                routeSQLs.put(each, sql);
+            }
+            result.put(each, new SQLRewriteUnit(sql, getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
         }
         return new RouteSQLRewriteResult(result);
     }
@@ -24,7 +24,9 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -40,28 +42,30 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
+        List<SQLToken> sqlTokens = new ArrayList<>(context.getSqlTokens());
         StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(each instanceof ComposableSQLToken ? getComposableSQLTokenText((ComposableSQLToken) each) : getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        result.append(context.getSql(), 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
+            result.append(each instanceof ComposableSQLToken ? getComposableSQLTokenText(sqlTokens, (ComposableSQLToken) each) : getSQLTokenText(each));
+            result.append(getConjunctionText(sqlTokens, each, i));
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
 
-    private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
+    private String getComposableSQLTokenText(final List<SQLToken> sqlTokens, final ComposableSQLToken composableSQLToken) {
         StringBuilder result = new StringBuilder();
         for (SQLToken each : composableSQLToken.getSqlTokens()) {
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(getConjunctionText(sqlTokens, each, sqlTokens.indexOf(each)));
         }
         return result.toString();
     }
 
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
+    private String getConjunctionText(final List<SQLToken> sqlTokens, final SQLToken sqlToken, final int sqlTokenIndex) {
+        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlTokens, sqlTokenIndex));
     }
     
     private int getStartIndex(final SQLToken sqlToken) {
@@ -69,8 +73,7 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         return Math.min(startIndex, context.getSql().length());
     }
     
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+    private int getStopIndex(final List<SQLToken> sqlTokens, final int sqlTokenIndex) {
+        return sqlTokens.size() - 1 == sqlTokenIndex ? context.getSql().length() : sqlTokens.get(sqlTokenIndex + 1).getStartIndex();
     }
 }
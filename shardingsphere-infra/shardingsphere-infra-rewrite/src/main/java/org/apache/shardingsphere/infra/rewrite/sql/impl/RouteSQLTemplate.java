@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL template with route.
+ * 
+ * <p>
+ * SQL rewrite context is compiled once into literal fragments and route unit aware tokens, so SQL of each route unit is rendered by concatenation only.
+ * The rendered SQL is same as {@code RouteSQLBuilder}.
+ * </p>
+ */
+public final class RouteSQLTemplate {
+    
+    private final List<String> literals = new ArrayList<>();
+    
+    private final List<RouteUnitAware> routeUnitAwareTokens = new ArrayList<>();
+    
+    private final int estimatedLength;
+    
+    public RouteSQLTemplate(final SQLRewriteContext context) {
+        String sql = context.getSql();
+        StringBuilder literal = new StringBuilder(sql.length());
+        int routeUnitAwareTokensLength = 0;
+        if (context.getSqlTokens().isEmpty()) {
+            literal.append(sql);
+        } else {
+            Collections.sort(context.getSqlTokens());
+            List<SQLToken> sqlTokens = new ArrayList<>(context.getSqlTokens());
+            literal.append(sql, 0, sqlTokens.get(0).getStartIndex());
+            for (int i = 0; i < sqlTokens.size(); i++) {
+                SQLToken each = sqlTokens.get(i);
+                if (each instanceof ComposableSQLToken) {
+                    for (SQLToken eachComposed : ((ComposableSQLToken) each).getSqlTokens()) {
+                        routeUnitAwareTokensLength += appendSQLToken(literal, eachComposed);
+                        literal.append(getConjunctionText(sql, sqlTokens, eachComposed, sqlTokens.indexOf(eachComposed)));
+                    }
+                } else {
+                    routeUnitAwareTokensLength += appendSQLToken(literal, each);
+                }
+                literal.append(getConjunctionText(sql, sqlTokens, each, i));
+            }
+        }
+        literals.add(literal.toString());
+        estimatedLength = literals.stream().mapToInt(String::length).sum() + routeUnitAwareTokensLength;
+    }
+    
+    private int appendSQLToken(final StringBuilder literal, final SQLToken sqlToken) {
+        if (!(sqlToken instanceof RouteUnitAware)) {
+            literal.append(sqlToken);
+            return 0;
+        }
+        literals.add(literal.toString());
+        literal.setLength(0);
+        routeUnitAwareTokens.add((RouteUnitAware) sqlToken);
+        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() - sqlToken.getStartIndex() + 1 : 0;
+    }
+    
+    private String getConjunctionText(final String sql, final List<SQLToken> sqlTokens, final SQLToken sqlToken, final int sqlTokenIndex) {
+        int startIndex = Math.min(sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex(), sql.length());
+        int stopIndex = sqlTokens.size() - 1 == sqlTokenIndex ? sql.length() : sqlTokens.get(sqlTokenIndex + 1).getStartIndex();
+        return sql.substring(startIndex, stopIndex);
+    }
+    
+    /**
+     * Convert to SQL of route unit.
+     * 
+     * @param routeUnit route unit
+     * @return SQL of route unit
+     */
+    public String toSQL(final RouteUnit routeUnit) {
+        if (routeUnitAwareTokens.isEmpty()) {
+            return literals.get(0);
+        }
+        StringBuilder result = new StringBuilder(estimatedLength);
+        result.append(literals.get(0));
+        for (int i = 0; i < routeUnitAwareTokens.size(); i++) {
+            result.append(routeUnitAwareTokens.get(i).toString(routeUnit));
+            result.append(literals.get(i + 1));
+        }
+        return result.toString();
+    }
+}
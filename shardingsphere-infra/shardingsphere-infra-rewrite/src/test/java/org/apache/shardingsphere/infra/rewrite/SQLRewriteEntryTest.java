@@ -20,7 +20,9 @@ package org.apache.shardingsphere.infra.rewrite;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -31,9 +33,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -62,4 +67,42 @@ public final class SQLRewriteEntryTest {
         RouteSQLRewriteResult sqlRewriteResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite("SELECT ?", Collections.singletonList(1), mock(SQLStatementContext.class), routeContext);
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
+    
+    @Test
+    public void assertRewriteWithRouteSQLsForBatchAcrossDataNodes() {
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(schema, props, Collections.emptyList());
+        RouteUnit routeUnit0 = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit routeUnit1 = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        Map<RouteUnit, String> routeSQLs = new HashMap<>();
+        assertBatchRow(sqlRewriteEntry.rewrite("UPDATE tbl SET col = ?", Collections.singletonList(1), mock(SQLStatementContext.class), createRouteContext(routeUnit0), routeSQLs), routeUnit0, 1);
+        assertBatchRow(sqlRewriteEntry.rewrite("UPDATE tbl SET col = ?", Collections.singletonList(2), mock(SQLStatementContext.class), createRouteContext(routeUnit1), routeSQLs), routeUnit1, 2);
+        assertBatchRow(sqlRewriteEntry.rewrite("UPDATE tbl SET col = ?", Collections.singletonList(3), mock(SQLStatementContext.class), createRouteContext(routeUnit0), routeSQLs), routeUnit0, 3);
+        assertThat(routeSQLs.size(), is(2));
+        assertThat(routeSQLs.get(routeUnit0), is("UPDATE tbl SET col = ?"));
+        assertThat(routeSQLs.get(routeUnit1), is("UPDATE tbl SET col = ?"));
+    }
+    
+    @Test
+    public void assertRewriteWithRouteSQLsWithoutParameters() {
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(schema, props, Collections.emptyList());
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        Map<RouteUnit, String> routeSQLs = new HashMap<>();
+        RouteSQLRewriteResult actual = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(
+                "UPDATE tbl SET col = 1", Collections.emptyList(), mock(SQLStatementContext.class), createRouteContext(routeUnit), routeSQLs);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("UPDATE tbl SET col = 1"));
+        assertTrue(routeSQLs.isEmpty());
+    }
+    
+    private RouteContext createRouteContext(final RouteUnit routeUnit) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
+    private void assertBatchRow(final SQLRewriteResult actual, final RouteUnit routeUnit, final int parameter) {
+        RouteSQLRewriteResult routeSQLRewriteResult = (RouteSQLRewriteResult) actual;
+        assertThat(routeSQLRewriteResult.getSqlRewriteUnits().size(), is(1));
+        assertThat(routeSQLRewriteResult.getSqlRewriteUnits().get(routeUnit).getSql(), is("UPDATE tbl SET col = ?"));
+        assertThat(routeSQLRewriteResult.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(parameter)));
+    }
 }
@@ -28,7 +28,10 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -109,4 +112,23 @@ public final class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertTrue(actual.getSqlRewriteUnits().get(routeUnit).getParameters().isEmpty());
     }
+    
+    @Test
+    public void assertRewriteWithRouteSQLs() {
+        RouteUnit cachedRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit absentRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        Map<RouteUnit, String> routeSQLs = new HashMap<>();
+        routeSQLs.put(cachedRouteUnit, "UPDATE tbl_0 SET col = ?");
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(mock(ShardingSphereSchema.class), mock(SQLStatementContext.class), "UPDATE tbl SET col = ?", Collections.singletonList(1));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().addAll(Arrays.asList(cachedRouteUnit, absentRouteUnit));
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext, routeSQLs);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(cachedRouteUnit).getSql(), is("UPDATE tbl_0 SET col = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(cachedRouteUnit).getParameters(), is(Collections.singletonList(1)));
+        assertThat(actual.getSqlRewriteUnits().get(absentRouteUnit).getSql(), is("UPDATE tbl SET col = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(absentRouteUnit).getParameters(), is(Collections.singletonList(1)));
+        assertThat(routeSQLs.size(), is(2));
+        assertThat(routeSQLs.get(absentRouteUnit), is("UPDATE tbl SET col = ?"));
+    }
 }
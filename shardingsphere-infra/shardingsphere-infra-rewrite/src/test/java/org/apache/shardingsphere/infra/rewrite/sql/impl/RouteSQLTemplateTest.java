@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RouteSQLTemplateTest {
+    
+    @Test
+    public void assertToSQLWithoutSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(new LinkedList<>());
+        assertThat(new RouteSQLTemplate(context).toSQL(createRouteUnit("tbl_0")), is("SELECT * FROM tbl WHERE id=?"));
+    }
+    
+    @Test
+    public void assertToSQLWithNormalSQLToken() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
+        assertThat(new RouteSQLTemplate(context).toSQL(createRouteUnit("tbl_0")), is("SELECT * FROM XXX WHERE id=?"));
+    }
+    
+    @Test
+    public void assertToSQLWithRouteUnitAwareSQLTokens() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl JOIN tbl ON a=b WHERE id=?");
+        List<SQLToken> sqlTokens = new LinkedList<>();
+        sqlTokens.add(new RouteUnitAwareSQLTokenFixture(23, 25));
+        sqlTokens.add(new SQLTokenFixture(30, 30));
+        sqlTokens.add(new RouteUnitAwareSQLTokenFixture(14, 16));
+        when(context.getSqlTokens()).thenReturn(sqlTokens);
+        RouteSQLTemplate routeSQLTemplate = new RouteSQLTemplate(context);
+        assertThat(routeSQLTemplate.toSQL(createRouteUnit("tbl_0")), is("SELECT * FROM tbl_0 JOIN tbl_0 ON XXX=b WHERE id=?"));
+        assertThat(routeSQLTemplate.toSQL(createRouteUnit("tbl_1")), is("SELECT * FROM tbl_1 JOIN tbl_1 ON XXX=b WHERE id=?"));
+        assertThat(new RouteSQLBuilder(context, createRouteUnit("tbl_1")).toSQL(), is("SELECT * FROM tbl_1 JOIN tbl_1 ON XXX=b WHERE id=?"));
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
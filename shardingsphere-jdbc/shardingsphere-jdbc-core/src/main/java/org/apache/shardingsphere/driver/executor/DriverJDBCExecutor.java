@@ -17,15 +17,18 @@
 
 package org.apache.shardingsphere.driver.executor;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.pending.PendingQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -34,6 +37,7 @@ import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Driver JDBC executor.
@@ -66,14 +70,19 @@ public final class DriverJDBCExecutor {
                                           final SQLStatementContext<?> sqlStatementContext, final ExecuteQueryCallback callback) throws SQLException {
         try {
             ExecuteProcessEngine.initialize(sqlStatementContext, executionGroupContext, metaDataContexts.getProps());
-            List<QueryResult> result = jdbcExecutor.execute(executionGroupContext, callback);
-            ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
+            List<QueryResult> result = metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.INCREMENTAL_MERGE_ENABLED)
+                    ? jdbcExecutor.executeQueryIncrementally(executionGroupContext, callback) : jdbcExecutor.execute(executionGroupContext, callback);
+            ExecuteProcessEngine.finishOnCompletion(executionGroupContext.getExecutionID(), getPendingExecutions(result));
             return result;
         } finally {
             ExecuteProcessEngine.clean();
         }
     }
     
+    private Collection<ListenableFuture<QueryResult>> getPendingExecutions(final Collection<QueryResult> queryResults) {
+        return queryResults.stream().filter(each -> each instanceof PendingQueryResult).map(each -> ((PendingQueryResult) each).getFuture()).collect(Collectors.toList());
+    }
+    
     /**
      * Execute update.
      *
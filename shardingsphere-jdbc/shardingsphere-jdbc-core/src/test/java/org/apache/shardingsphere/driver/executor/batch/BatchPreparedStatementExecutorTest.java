@@ -36,11 +36,14 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -127,16 +130,35 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        actual.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 1)));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_1", 2)));
+        actual.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 3)));
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(batchExecutionUnits.get(0).getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(3))));
+        assertThat(batchExecutionUnits.get(0).getJdbcAndActualAddBatchCallTimesMap().get(2), is(1));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(batchExecutionUnits.get(1).getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2))));
+        assertThat(batchExecutionUnits.get(1).getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final Object parameter) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new ArrayList<>(Collections.singletonList(parameter))));
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -144,7 +166,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
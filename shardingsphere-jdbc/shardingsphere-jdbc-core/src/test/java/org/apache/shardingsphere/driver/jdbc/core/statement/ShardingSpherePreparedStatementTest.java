@@ -95,6 +95,45 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
         }
     }
     
+    @Test
+    public void assertAddBatchAcrossDataNodes() throws SQLException {
+        int[][] rows = {{3201, 11}, {3202, 12}, {3203, 21}, {3204, 22}, {3205, 11}, {3206, 22}};
+        try (
+                Connection connection = getShardingSphereDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_WITH_GENERATE_KEY_SQL)) {
+            for (int[] each : rows) {
+                preparedStatement.setInt(1, each[0]);
+                preparedStatement.setInt(2, each[1]);
+                preparedStatement.setInt(3, each[1]);
+                preparedStatement.setString(4, "BATCH");
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(rows.length));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+        }
+        try (PreparedStatement preparedStatement = getShardingSphereDataSource().getConnection().prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER + " ORDER BY item_id")) {
+            assertBatchInsertedItemIds(preparedStatement, 11, 3201, 3205);
+            assertBatchInsertedItemIds(preparedStatement, 12, 3202);
+            assertBatchInsertedItemIds(preparedStatement, 21, 3203);
+            assertBatchInsertedItemIds(preparedStatement, 22, 3204, 3206);
+        }
+    }
+    
+    private void assertBatchInsertedItemIds(final PreparedStatement preparedStatement, final int shardingValue, final int... expectedItemIds) throws SQLException {
+        preparedStatement.setInt(1, shardingValue);
+        preparedStatement.setInt(2, shardingValue);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            for (int each : expectedItemIds) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(each));
+            }
+            assertFalse(resultSet.next());
+        }
+    }
+    
     @Test
     public void assertMultiValuesWithGenerateShardingKeyColumn() throws SQLException {
         try (
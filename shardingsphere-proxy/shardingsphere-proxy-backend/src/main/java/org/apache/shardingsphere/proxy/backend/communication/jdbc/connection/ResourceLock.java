@@ -23,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 /**
  * Resource lock.
@@ -48,6 +49,28 @@ public final class ResourceLock {
         }
     }
     
+    /**
+     * Await until condition is satisfied.
+     *
+     * <p>
+     * The condition is checked while holding the lock, so a notification raised between checking and awaiting is not missed.
+     * The default timeout only bounds each single wait, in case the condition changes without notification.
+     * </p>
+     *
+     * @param awaitCondition condition to await
+     */
+    @SneakyThrows(InterruptedException.class)
+    public void doAwaitUntil(final BooleanSupplier awaitCondition) {
+        lock.lock();
+        try {
+            while (!awaitCondition.getAsBoolean()) {
+                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     /**
      * Notify.
      */
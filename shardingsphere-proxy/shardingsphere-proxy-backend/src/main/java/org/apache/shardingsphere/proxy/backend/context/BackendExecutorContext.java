@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorMode;
 
 /**
  * Backend executor context.
@@ -32,8 +33,8 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = 
-            new ExecutorEngine(ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = new ExecutorEngine(ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE),
+            ExecutorMode.getValueOf(ProxyContext.getInstance().getMetaDataContexts().getProps().<String>getValue(ConfigurationPropertyKey.EXECUTOR_MODE)));
     
     /**
      * Get executor context instance.
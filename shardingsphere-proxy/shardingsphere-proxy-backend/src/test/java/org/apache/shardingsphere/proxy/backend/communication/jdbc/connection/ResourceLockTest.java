@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertTrue;
 
@@ -49,4 +50,29 @@ public final class ResourceLockTest {
         resourceLock.doAwait();
         assertTrue(System.currentTimeMillis() > startTime);
     }
+    
+    @Test
+    public void assertDoAwaitUntil() {
+        ResourceLock resourceLock = new ResourceLock();
+        AtomicBoolean writable = new AtomicBoolean();
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        executorService.submit(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException ignored) {
+            }
+            writable.set(true);
+            resourceLock.doNotify();
+        });
+        resourceLock.doAwaitUntil(writable::get);
+        assertTrue(writable.get());
+    }
+    
+    @Test
+    public void assertDoAwaitUntilWithSatisfiedCondition() {
+        ResourceLock resourceLock = new ResourceLock();
+        long startTime = System.currentTimeMillis();
+        resourceLock.doAwaitUntil(() -> true);
+        assertTrue(System.currentTimeMillis() - startTime < 200L);
+    }
 }
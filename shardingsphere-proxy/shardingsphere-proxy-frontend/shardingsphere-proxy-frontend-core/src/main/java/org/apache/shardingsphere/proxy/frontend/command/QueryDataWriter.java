@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+
+/**
+ * Query data writer.
+ *
+ * <p>
+ * Rows are flushed when the unflushed rows reach the flush threshold, or when the pending bytes reach the low water mark of channel write buffer.
+ * The flush threshold grows while the client keeps up, to save flushes for small rows, and falls back to the configured one once the client stalls.
+ * When channel becomes unwritable, the writer awaits until channel writability changed instead of polling it.
+ * </p>
+ */
+public final class QueryDataWriter {
+    
+    private static final int MAX_FLUSH_THRESHOLD_MULTIPLE = 16;
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int minFlushThreshold;
+    
+    private final int maxFlushThreshold;
+    
+    private int flushThreshold;
+    
+    private int unflushedCount;
+    
+    @Getter
+    private int flushCount;
+    
+    @Getter
+    private long stallMillis;
+    
+    public QueryDataWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final int flushThreshold) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        minFlushThreshold = Math.max(flushThreshold, 1);
+        maxFlushThreshold = minFlushThreshold * MAX_FLUSH_THRESHOLD_MULTIPLE;
+        this.flushThreshold = minFlushThreshold;
+    }
+    
+    /**
+     * Write query data packet.
+     *
+     * @param packet query data packet
+     */
+    public void write(final DatabasePacket<?> packet) {
+        if (!context.channel().isWritable()) {
+            awaitWritable();
+        }
+        context.write(packet);
+        unflushedCount++;
+        if (getPendingBytes() >= context.channel().config().getWriteBufferLowWaterMark()) {
+            flush();
+        } else if (unflushedCount >= flushThreshold) {
+            flush();
+            flushThreshold = Math.min(flushThreshold << 1, maxFlushThreshold);
+        }
+    }
+    
+    private long getPendingBytes() {
+        Channel channel = context.channel();
+        return channel.config().getWriteBufferHighWaterMark() - channel.bytesBeforeUnwritable();
+    }
+    
+    /**
+     * Await until channel is writable or inactive.
+     */
+    public void awaitWritable() {
+        long startTime = System.currentTimeMillis();
+        flush();
+        Channel channel = context.channel();
+        resourceLock.doAwaitUntil(() -> channel.isWritable() || !channel.isActive());
+        stallMillis += System.currentTimeMillis() - startTime;
+        flushThreshold = minFlushThreshold;
+    }
+    
+    /**
+     * Flush written query data.
+     */
+    public void flush() {
+        context.flush();
+        unflushedCount = 0;
+        flushCount++;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataWriterTest {
+    
+    private static final int LOW_WATER_MARK = 8 * 1024 * 1024;
+    
+    private static final int HIGH_WATER_MARK = 16 * 1024 * 1024;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Mock
+    private DatabasePacket<?> packet;
+    
+    @Before
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.config()).thenReturn(channelConfig);
+        when(channelConfig.getWriteBufferLowWaterMark()).thenReturn(LOW_WATER_MARK);
+        when(channelConfig.getWriteBufferHighWaterMark()).thenReturn(HIGH_WATER_MARK);
+    }
+    
+    @Test
+    public void assertWriteWithoutReachingFlushThreshold() {
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.bytesBeforeUnwritable()).thenReturn((long) HIGH_WATER_MARK);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, 2);
+        queryDataWriter.write(packet);
+        verify(context).write(packet);
+        verify(context, never()).flush();
+        assertThat(queryDataWriter.getFlushCount(), is(0));
+    }
+    
+    @Test
+    public void assertWriteWithGrowingFlushThreshold() {
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.bytesBeforeUnwritable()).thenReturn((long) HIGH_WATER_MARK);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, 2);
+        for (int i = 0; i < 6; i++) {
+            queryDataWriter.write(packet);
+        }
+        verify(context, times(6)).write(packet);
+        verify(context, times(2)).flush();
+        assertThat(queryDataWriter.getFlushCount(), is(2));
+    }
+    
+    @Test
+    public void assertWriteWithPendingBytesReachingLowWaterMark() {
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.bytesBeforeUnwritable()).thenReturn((long) HIGH_WATER_MARK - LOW_WATER_MARK);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, 128);
+        queryDataWriter.write(packet);
+        verify(context).flush();
+        assertThat(queryDataWriter.getFlushCount(), is(1));
+    }
+    
+    @Test
+    public void assertWriteWithUnwritableChannel() {
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.bytesBeforeUnwritable()).thenReturn((long) HIGH_WATER_MARK);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, resourceLock, 128);
+        queryDataWriter.write(packet);
+        verify(context).flush();
+        verify(resourceLock).doAwaitUntil(any());
+        verify(context).write(packet);
+        assertThat(queryDataWriter.getFlushCount(), is(1));
+    }
+}
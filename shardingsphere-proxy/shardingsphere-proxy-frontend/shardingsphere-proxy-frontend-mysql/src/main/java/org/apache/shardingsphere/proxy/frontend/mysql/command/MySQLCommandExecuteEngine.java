@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -52,7 +53,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
     public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
-        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
+        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, backendConnection.getConnectionId());
     }
     
     @Override
@@ -76,21 +77,11 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return true;
         }
-        int count = 0;
         int flushThreshold = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, backendConnection.getResourceLock(), flushThreshold);
         int currentSequenceId = 0;
         while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceLock().doAwait();
-            }
-            DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
+            queryDataWriter.write(queryCommandExecutor.getQueryRowPacket());
             currentSequenceId++;
         }
         context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
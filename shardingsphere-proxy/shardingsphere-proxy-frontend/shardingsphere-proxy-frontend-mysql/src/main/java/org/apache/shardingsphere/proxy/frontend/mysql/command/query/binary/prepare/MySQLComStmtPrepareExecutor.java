@@ -43,8 +43,6 @@ import java.util.LinkedList;
 @RequiredArgsConstructor
 public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
-    private static final MySQLBinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = MySQLBinaryStatementRegistry.getInstance();
-    
     private final MySQLComStmtPreparePacket packet;
     
     private final BackendConnection backendConnection;
@@ -61,7 +59,7 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         }
         int parameterCount = sqlStatement.getParameterCount();
         int projectionCount = getProjectionCount(sqlStatement);
-        int statementId = PREPARED_STATEMENT_REGISTRY.register(packet.getSql(), parameterCount);
+        int statementId = MySQLBinaryStatementRegistry.getInstance().get(backendConnection.getConnectionId()).register(packet.getSql(), parameterCount, sqlStatement);
         return createPackets(statementId, projectionCount, parameterCount);
     }
     
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryDataWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -109,20 +110,11 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     
     private long writeDataPackets(final ChannelHandlerContext context, final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0;
-        int flushCount = 0;
         int proxyFrontendFlushThreshold = ProxyContext.getInstance().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        QueryDataWriter queryDataWriter = new QueryDataWriter(context, backendConnection.getResourceLock(), proxyFrontendFlushThreshold);
         while (queryCommandExecutor.next()) {
-            flushCount++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceLock().doAwait();
-            }
             DatabasePacket<?> resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
+            queryDataWriter.write(resultValue);
             if (resultValue instanceof PostgreSQLDataRowPacket) {
                 dataRows++;
             }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
@@ -115,6 +116,11 @@ public final class PostgreSQLCommandExecuteEngineTest {
         when(channel.isActive()).thenReturn(true);
         when(queryCommandExecutor.next()).thenReturn(true, false);
         when(channel.isWritable()).thenReturn(false, true);
+        ChannelConfig channelConfig = mock(ChannelConfig.class);
+        when(channelConfig.getWriteBufferLowWaterMark()).thenReturn(8 * 1024 * 1024);
+        when(channelConfig.getWriteBufferHighWaterMark()).thenReturn(16 * 1024 * 1024);
+        when(channel.config()).thenReturn(channelConfig);
+        when(channel.bytesBeforeUnwritable()).thenReturn(16L * 1024 * 1024);
         ResourceLock resourceLock = mock(ResourceLock.class);
         when(backendConnection.getResourceLock()).thenReturn(resourceLock);
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
@@ -122,7 +128,7 @@ public final class PostgreSQLCommandExecuteEngineTest {
         PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
         boolean actual = commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
         assertTrue(actual);
-        verify(resourceLock).doAwait();
+        verify(resourceLock).doAwaitUntil(any());
         verify(channelHandlerContext).write(packet);
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
         verify(channelHandlerContext).flush();
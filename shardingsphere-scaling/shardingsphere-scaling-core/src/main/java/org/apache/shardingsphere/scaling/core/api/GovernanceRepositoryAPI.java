@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Governance repository API.
@@ -44,6 +45,22 @@ public interface GovernanceRepositoryAPI {
      */
     JobProgress getJobProgress(long jobId, int shardingItem);
     
+    /**
+     * Persist checked primary key positions of data consistency check.
+     *
+     * @param jobId job id
+     * @param checkedPositions checked primary key positions of tables
+     */
+    void persistDataCheckPositions(long jobId, Map<String, Long> checkedPositions);
+    
+    /**
+     * Get checked primary key positions of data consistency check.
+     *
+     * @param jobId job id
+     * @return checked primary key positions of tables
+     */
+    Map<String, Long> getDataCheckPositions(long jobId);
+    
     /**
      * Delete job progress.
      *
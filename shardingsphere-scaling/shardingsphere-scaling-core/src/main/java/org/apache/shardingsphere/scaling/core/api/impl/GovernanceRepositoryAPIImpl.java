@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.governance.repository.spi.RegistryCenterRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.scaling.core.api.GovernanceRepositoryAPI;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskPr
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Governance repository API impl.
@@ -76,10 +78,27 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         return Strings.isNullOrEmpty(data) ? null : JobProgress.init(data);
     }
     
+    @Override
+    public void persistDataCheckPositions(final long jobId, final Map<String, Long> checkedPositions) {
+        repository.persist(getDataCheckPositionPath(jobId), YamlEngine.marshal(checkedPositions));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<String, Long> getDataCheckPositions(final long jobId) {
+        String data = repository.get(getDataCheckPositionPath(jobId));
+        Map<String, Long> result = new ConcurrentHashMap<>();
+        if (!Strings.isNullOrEmpty(data)) {
+            YamlEngine.unmarshal(data, Map.class).forEach((key, value) -> result.put(key.toString(), ((Number) value).longValue()));
+        }
+        return result;
+    }
+    
     @Override
     public void deleteJobProgress(final long jobId) {
         log.info("delete job progress {}", jobId);
         repository.delete(String.format("%s/%d/offset", ScalingConstant.SCALING_ROOT, jobId));
+        repository.delete(getDataCheckPositionPath(jobId));
     }
     
     @Override
@@ -106,4 +125,8 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
     private String getOffsetPath(final long jobId, final int shardingItem) {
         return String.format("%s/%d/offset/%d", ScalingConstant.SCALING_ROOT, jobId, shardingItem);
     }
+    
+    private String getDataCheckPositionPath(final long jobId) {
+        return String.format("%s/%d/check/position", ScalingConstant.SCALING_ROOT, jobId);
+    }
 }
@@ -128,7 +128,13 @@ public final class ScalingAPIImpl implements ScalingAPI {
         DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(new JobContext(getJobConfig(jobId)));
         Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.countCheck();
         if (result.values().stream().allMatch(DataConsistencyCheckResult::isCountValid)) {
-            Map<String, Boolean> dataCheckResult = dataConsistencyChecker.dataCheck();
+            Map<String, Long> checkedPositions = ScalingAPIFactory.getGovernanceRepositoryAPI().getDataCheckPositions(jobId);
+            Map<String, Boolean> dataCheckResult;
+            try {
+                dataCheckResult = dataConsistencyChecker.dataCheck(checkedPositions);
+            } finally {
+                ScalingAPIFactory.getGovernanceRepositoryAPI().persistDataCheckPositions(jobId, checkedPositions);
+            }
             result.forEach((key, value) -> value.setDataValid(dataCheckResult.getOrDefault(key, false)));
         }
         log.info("Scaling job {} data consistency checker result {}", jobId, result);
@@ -34,6 +34,18 @@ public interface Channel {
      */
     void pushRecord(Record dataRecord) throws InterruptedException;
     
+    /**
+     * push {@code Record}s to channel in order.
+     *
+     * @param records records
+     * @throws InterruptedException if thread interrupted
+     */
+    default void pushRecords(List<Record> records) throws InterruptedException {
+        for (Record each : records) {
+            pushRecord(each);
+        }
+    }
+    
     /**
      * fetch {@code Record} from channel, if the timeout also returns the record.
      *
@@ -58,6 +58,13 @@ public interface BitSetChannel {
      */
     BitSet getAckBitSet(long fromIndex);
     
+    /**
+     * Get acknowledged index, records whose index less than it are acknowledged.
+     *
+     * @return acknowledged index
+     */
+    long getAcknowledgedIndex();
+    
     /**
      * Remove earliest acknowledged record.
      *
@@ -17,28 +17,39 @@
 
 package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.record.RecordUtil;
 
-import java.util.BitSet;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Distribution channel.
+ *
+ * <p>
+ * Data records are distributed by table name and primary key, so changes of the same row are always fetched by the same importer.
+ * Data records which update primary key are distributed to the channel of the before key, and the after key follows that channel until its records acknowledged.
+ * If the after key was distributed to another channel, the record is pushed after that channel acknowledged, other channels are not blocked.
+ * Acknowledged records are called back in push order as soon as importers acknowledge them.
+ * </p>
  */
 @Slf4j
 public final class DistributionChannel implements Channel {
@@ -57,23 +68,27 @@ public final class DistributionChannel implements Channel {
     
     private final Queue<Integer> toBeAckBitSetIndexes = new ConcurrentLinkedQueue<>();
     
-    private long lastAckIndex;
+    private final Map<DataRecord.Key, KeyAssignment> keyAssignments = new ConcurrentHashMap<>();
+    
+    private final long[] lastPushedIndexes;
+    
+    private final Object ackMonitor = new Object();
     
-    private ScheduledExecutorService scheduleAckRecordsExecutor;
+    private final AtomicBoolean acknowledging = new AtomicBoolean();
+    
+    private volatile long lastAckIndex;
+    
+    private volatile boolean closed;
     
     public DistributionChannel(final int channelNumber, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
         channels = new BitSetChannel[channelNumber];
+        lastPushedIndexes = new long[channelNumber];
+        Arrays.fill(lastPushedIndexes, -1L);
         for (int i = 0; i < channelNumber; i++) {
             channels[i] = new BlockingQueueChannel();
         }
-        scheduleAckRecords();
-    }
-    
-    private void scheduleAckRecords() {
-        scheduleAckRecordsExecutor = Executors.newSingleThreadScheduledExecutor();
-        scheduleAckRecordsExecutor.scheduleWithFixedDelay(this::ackRecords0, 5, 1, TimeUnit.SECONDS);
     }
     
     @Override
@@ -83,17 +98,73 @@ public final class DistributionChannel implements Channel {
                 pushRecord(record, i);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            pushDataRecord((DataRecord) record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, -1);
+            ackRecords();
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
+    private void pushDataRecord(final DataRecord dataRecord) throws InterruptedException {
+        DataRecord.Key key = dataRecord.getKey();
+        if (!isPrimaryKeyUpdated(dataRecord)) {
+            int index = getChannelIndex(key);
+            assignKey(key, index);
+            pushRecord(dataRecord, index);
+            return;
+        }
+        DataRecord.Key beforeKey = getBeforeKey(dataRecord);
+        int index = getChannelIndex(beforeKey);
+        int afterKeyIndex = getChannelIndex(key);
+        if (index != afterKeyIndex) {
+            awaitAcknowledged(afterKeyIndex);
+        }
+        assignKey(beforeKey, index);
+        assignKey(key, index);
+        pushRecord(dataRecord, index);
+    }
+    
+    private boolean isPrimaryKeyUpdated(final DataRecord dataRecord) {
+        return ScalingConstant.UPDATE.equals(dataRecord.getType()) && RecordUtil.extractPrimaryColumns(dataRecord).stream().anyMatch(Column::isUpdated);
+    }
+    
+    private DataRecord.Key getBeforeKey(final DataRecord dataRecord) {
+        List<Object> primaryKeyValues = new LinkedList<>();
+        for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
+            primaryKeyValues.add(each.isUpdated() ? each.getOldValue() : each.getValue());
+        }
+        return new DataRecord.Key(dataRecord.getTableName(), primaryKeyValues);
+    }
+    
+    private int getChannelIndex(final DataRecord.Key key) {
+        KeyAssignment keyAssignment = keyAssignments.get(key);
+        return null == keyAssignment ? Math.abs(key.hashCode() % channelNumber) : keyAssignment.getChannelIndex();
+    }
+    
+    private void assignKey(final DataRecord.Key key, final int index) {
+        if (index != Math.abs(key.hashCode() % channelNumber) || keyAssignments.containsKey(key)) {
+            keyAssignments.put(key, new KeyAssignment(index, indexAutoIncreaseGenerator.get()));
+        }
+    }
+    
+    private void awaitAcknowledged(final int index) throws InterruptedException {
+        long lastPushedIndex = lastPushedIndexes[index];
+        synchronized (ackMonitor) {
+            while (!closed && channels[index].getAcknowledgedIndex() <= lastPushedIndex) {
+                ackMonitor.wait();
+            }
+        }
+    }
+    
     private void pushRecord(final Record record, final int index) throws InterruptedException {
         toBeAckBitSetIndexes.add(index);
-        getBitSetChannel(index).pushRecord(record, indexAutoIncreaseGenerator.getAndIncrement());
+        long recordIndex = indexAutoIncreaseGenerator.getAndIncrement();
+        if (-1 != index) {
+            lastPushedIndexes[index] = recordIndex;
+        }
+        getBitSetChannel(index).pushRecord(record, recordIndex);
     }
     
     @Override
@@ -104,40 +175,51 @@ public final class DistributionChannel implements Channel {
     @Override
     public void ack() {
         findChannel().ack();
+        synchronized (ackMonitor) {
+            ackMonitor.notifyAll();
+        }
+        ackRecords();
     }
     
-    private synchronized void ackRecords0() {
+    private void ackRecords() {
+        do {
+            if (!acknowledging.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                ackRecords0();
+            } finally {
+                acknowledging.set(false);
+            }
+        } while (isAcknowledged(toBeAckBitSetIndexes.peek()));
+    }
+    
+    private void ackRecords0() {
         try {
-            int count = shouldAckCount();
-            if (0 == count) {
+            List<Record> records = new LinkedList<>();
+            Integer index = toBeAckBitSetIndexes.peek();
+            while (isAcknowledged(index)) {
+                records.add(getBitSetChannel(toBeAckBitSetIndexes.remove()).removeAckRecord());
+                lastAckIndex++;
+                index = toBeAckBitSetIndexes.peek();
+            }
+            if (records.isEmpty()) {
                 return;
             }
-            ackCallback.onAck(fetchAckRecords(count));
-            lastAckIndex += count;
+            ackCallback.onAck(records);
             for (BitSetChannel channel : channels) {
                 channel.clear(lastAckIndex);
             }
+            keyAssignments.values().removeIf(each -> each.getLastIndex() < lastAckIndex);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            log.error("distribution channel auto ack failed.", ex);
+            log.error("distribution channel ack failed.", ex);
         }
     }
     
-    private int shouldAckCount() {
-        BitSet bitSet = autoAckChannel.getAckBitSet(lastAckIndex);
-        for (BitSetChannel channel : channels) {
-            bitSet.or(channel.getAckBitSet(lastAckIndex));
-        }
-        return bitSet.nextClearBit(0);
-    }
-    
-    private List<Record> fetchAckRecords(final int count) {
-        List<Record> result = new LinkedList<>();
-        for (int i = 0; i < count; i++) {
-            result.add(getBitSetChannel(toBeAckBitSetIndexes.remove()).removeAckRecord());
-        }
-        return result;
+    private boolean isAcknowledged(final Integer bitSetIndex) {
+        return null != bitSetIndex && lastAckIndex < getBitSetChannel(bitSetIndex).getAcknowledgedIndex();
     }
     
     private BitSetChannel getBitSetChannel(final Integer index) {
@@ -171,11 +253,31 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
-        scheduleAckRecordsExecutor.shutdown();
-        ackRecords0();
+        closed = true;
+        synchronized (ackMonitor) {
+            ackMonitor.notifyAll();
+        }
+        while (!acknowledging.compareAndSet(false, true)) {
+            Thread.yield();
+        }
+        try {
+            ackRecords0();
+        } finally {
+            acknowledging.set(false);
+        }
         for (BitSetChannel each : channels) {
             each.close();
         }
         toBeAckBitSetIndexes.clear();
+        keyAssignments.clear();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class KeyAssignment {
+        
+        private final int channelIndex;
+        
+        private final long lastIndex;
     }
 }
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract SQL builder.
@@ -156,4 +157,24 @@ public abstract class AbstractScalingSQLBuilder implements ScalingSQLBuilder {
     public String buildSplitByPrimaryKeyRangeSQL(final String tableName, final String primaryKey) {
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? limit ?) t", quote(primaryKey), quote(primaryKey), quote(tableName), quote(primaryKey));
     }
+    
+    @Override
+    public String buildMinMaxPrimaryKeySQL(final String tableName, final String primaryKey) {
+        return String.format("SELECT MIN(%s), MAX(%s) FROM %s", quote(primaryKey), quote(primaryKey), quote(tableName));
+    }
+    
+    @Override
+    public String buildQueryChunkSQL(final String tableName, final Collection<String> columns, final String primaryKey) {
+        return String.format("SELECT %s FROM %s%s", columns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(",")), quote(tableName), buildPrimaryKeyRangeSQL(primaryKey));
+    }
+    
+    /**
+     * Build primary key range condition SQL.
+     *
+     * @param primaryKey primary key to query rows between two parameters, null means query all rows
+     * @return primary key range condition SQL
+     */
+    protected String buildPrimaryKeyRangeSQL(final String primaryKey) {
+        return null == primaryKey ? "" : String.format(" WHERE %s BETWEEN ? AND ?", quote(primaryKey));
+    }
 }
@@ -85,4 +85,23 @@ public interface ScalingSQLBuilder {
      * @return split SQL
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
+    
+    /**
+     * Build min and max primary key SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @return min and max primary key SQL
+     */
+    String buildMinMaxPrimaryKeySQL(String tableName, String primaryKey);
+    
+    /**
+     * Build query chunk SQL.
+     *
+     * @param tableName table name
+     * @param columns columns
+     * @param primaryKey primary key to query rows between two parameters, null means query all rows
+     * @return query chunk SQL
+     */
+    String buildQueryChunkSQL(String tableName, Collection<String> columns, String primaryKey);
 }
@@ -44,13 +44,24 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Abstract JDBC dumper implement.
+ *
+ * <p>
+ * Tables with primary key are dumped by keyset pagination ordered by primary key, page size is adjusted by fetched pages.
+ * Tables without primary key are dumped by one streaming query.
+ * </p>
  */
 @Slf4j
 public abstract class AbstractInventoryDumper extends AbstractScalingExecutor implements InventoryDumper {
     
+    private static final int PUSH_BATCH_SIZE = 1000;
+    
     @Getter(AccessLevel.PROTECTED)
     private final InventoryDumperConfiguration inventoryDumperConfig;
     
@@ -58,6 +69,12 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
     
     private final TableMetaData tableMetaData;
     
+    private String logicTableName;
+    
+    private String[] columnNames;
+    
+    private boolean[] primaryKeyFlags;
+    
     @Setter
     private Channel channel;
     
@@ -82,19 +99,11 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
     }
     
     private void dump() {
-        try (Connection conn = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
-            String sql = String.format("SELECT * FROM %s %s", inventoryDumperConfig.getTableName(), getWhereCondition(inventoryDumperConfig.getPrimaryKey(), inventoryDumperConfig.getPosition()));
-            PreparedStatement ps = createPreparedStatement(conn, sql);
-            ResultSet rs = ps.executeQuery();
-            ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(newPosition(rs), metaData.getColumnCount());
-                record.setType(ScalingConstant.INSERT);
-                record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
-                }
-                pushRecord(record);
+        try (Connection connection = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
+            if (null == tableMetaData || tableMetaData.getPrimaryKeyColumns().isEmpty()) {
+                dumpAll(connection);
+            } else {
+                dumpByPage(connection, tableMetaData.getPrimaryKeyColumns());
             }
             pushRecord(new FinishedRecord(new FinishedPosition()));
         } catch (final SQLException ex) {
@@ -106,12 +115,141 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         }
     }
     
+    private void dumpAll(final Connection connection) throws SQLException {
+        String sql = String.format("SELECT * FROM %s", inventoryDumperConfig.getTableName());
+        try (PreparedStatement preparedStatement = createPreparedStatement(connection, sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            List<Record> records = new ArrayList<>(PUSH_BATCH_SIZE);
+            while (isRunning() && resultSet.next()) {
+                records.add(createDataRecord(resultSet));
+                if (records.size() >= PUSH_BATCH_SIZE) {
+                    pushRecords(records);
+                    records.clear();
+                }
+            }
+            pushRecords(records);
+        }
+    }
+    
+    private void dumpByPage(final Connection connection, final List<String> primaryKeys) throws SQLException {
+        String firstPageSQL = buildPageSQL(primaryKeys, false);
+        String nextPageSQL = buildPageSQL(primaryKeys, true);
+        PageSizeAdjuster pageSizeAdjuster = new PageSizeAdjuster();
+        Object[] lastKeyValues = null;
+        int pageSize;
+        int rowCount;
+        do {
+            pageSize = pageSizeAdjuster.getPageSize();
+            rowCount = 0;
+            long pageBytes = 0L;
+            long startMillis = System.currentTimeMillis();
+            List<Record> records = new ArrayList<>(pageSize);
+            try (PreparedStatement preparedStatement = createPreparedStatement(connection, null == lastKeyValues ? firstPageSQL : nextPageSQL)) {
+                setPageParameters(preparedStatement, lastKeyValues, pageSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (isRunning() && resultSet.next()) {
+                        DataRecord record = createDataRecord(resultSet);
+                        records.add(record);
+                        pageBytes += estimateBytes(record);
+                        lastKeyValues = readKeyValues(resultSet, primaryKeys);
+                        rowCount++;
+                    }
+                }
+            }
+            pushRecords(records);
+            pageSizeAdjuster.adjust(rowCount, pageBytes, System.currentTimeMillis() - startMillis);
+        } while (isRunning() && rowCount == pageSize);
+    }
+    
+    private String buildPageSQL(final List<String> primaryKeys, final boolean afterLastKey) {
+        List<String> conditions = new LinkedList<>();
+        String rangeCondition = getWhereCondition(inventoryDumperConfig.getPrimaryKey(), inventoryDumperConfig.getPosition());
+        if (!rangeCondition.isEmpty()) {
+            conditions.add(rangeCondition);
+        }
+        if (afterLastKey) {
+            conditions.add(buildAfterKeyCondition(primaryKeys));
+        }
+        return String.format("SELECT * FROM %s%s ORDER BY %s LIMIT ?", inventoryDumperConfig.getTableName(),
+                conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions), String.join(",", primaryKeys));
+    }
+    
+    private String buildAfterKeyCondition(final List<String> primaryKeys) {
+        List<String> result = new ArrayList<>(primaryKeys.size());
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            StringBuilder condition = new StringBuilder();
+            for (int j = 0; j < i; j++) {
+                condition.append(primaryKeys.get(j)).append(" = ? AND ");
+            }
+            result.add(condition.append(primaryKeys.get(i)).append(" > ?").toString());
+        }
+        return 1 == result.size() ? result.get(0) : String.format("(%s)", result.stream().map(each -> String.format("(%s)", each)).collect(Collectors.joining(" OR ")));
+    }
+    
+    private void setPageParameters(final PreparedStatement preparedStatement, final Object[] lastKeyValues, final int pageSize) throws SQLException {
+        int parameterIndex = 1;
+        if (null != lastKeyValues) {
+            for (int i = 0; i < lastKeyValues.length; i++) {
+                for (int j = 0; j <= i; j++) {
+                    preparedStatement.setObject(parameterIndex++, lastKeyValues[j]);
+                }
+            }
+        }
+        preparedStatement.setInt(parameterIndex, pageSize);
+    }
+    
+    private Object[] readKeyValues(final ResultSet resultSet, final List<String> primaryKeys) throws SQLException {
+        Object[] result = new Object[primaryKeys.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = resultSet.getObject(primaryKeys.get(i));
+        }
+        return result;
+    }
+    
     private String getWhereCondition(final String primaryKey, final ScalingPosition<?> position) {
         if (null == primaryKey || null == position) {
             return "";
         }
         PrimaryKeyPosition primaryKeyPosition = (PrimaryKeyPosition) position;
-        return String.format("WHERE %s BETWEEN %d AND %d", primaryKey, primaryKeyPosition.getBeginValue(), primaryKeyPosition.getEndValue());
+        return String.format("%s BETWEEN %d AND %d", primaryKey, primaryKeyPosition.getBeginValue(), primaryKeyPosition.getEndValue());
+    }
+    
+    private DataRecord createDataRecord(final ResultSet resultSet) throws SQLException {
+        if (null == columnNames) {
+            initColumns(resultSet.getMetaData());
+        }
+        DataRecord result = new DataRecord(newPosition(resultSet), columnNames.length);
+        result.setType(ScalingConstant.INSERT);
+        result.setTableName(logicTableName);
+        for (int i = 0; i < columnNames.length; i++) {
+            result.addColumn(new Column(columnNames[i], readValue(resultSet, i + 1), true, primaryKeyFlags[i]));
+        }
+        return result;
+    }
+    
+    private void initColumns(final ResultSetMetaData metaData) throws SQLException {
+        logicTableName = inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName());
+        columnNames = new String[metaData.getColumnCount()];
+        primaryKeyFlags = new boolean[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnNames[i] = metaData.getColumnName(i + 1);
+            primaryKeyFlags[i] = null != tableMetaData && tableMetaData.isPrimaryKey(i);
+        }
+    }
+    
+    private long estimateBytes(final DataRecord record) {
+        long result = 0L;
+        for (int i = 0; i < record.getColumnCount(); i++) {
+            Object value = record.getColumn(i).getValue();
+            if (value instanceof String) {
+                result += ((String) value).length();
+            } else if (value instanceof byte[]) {
+                result += ((byte[]) value).length;
+            } else {
+                result += 8L;
+            }
+        }
+        return result;
     }
     
     private ScalingPosition<?> newPosition(final ResultSet rs) throws SQLException {
@@ -133,4 +271,11 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         } catch (final InterruptedException ignored) {
         }
     }
+    
+    private void pushRecords(final List<Record> records) {
+        try {
+            channel.pushRecords(records);
+        } catch (final InterruptedException ignored) {
+        }
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import lombok.Getter;
+
+/**
+ * Page size adjuster of inventory dumper.
+ *
+ * <p>
+ * Page size is doubled while full pages are fetched fast and small, and halved when pages are slow or too large.
+ * </p>
+ */
+@Getter
+public final class PageSizeAdjuster {
+    
+    private static final int MIN_PAGE_SIZE = 100;
+    
+    private static final int MAX_PAGE_SIZE = 100000;
+    
+    private static final long TARGET_PAGE_MILLIS = 1000L;
+    
+    private static final long MAX_PAGE_BYTES = 16L * 1024 * 1024;
+    
+    private int pageSize = 1000;
+    
+    /**
+     * Adjust page size by fetched page.
+     *
+     * @param rowCount row count of page
+     * @param pageBytes estimated bytes of page
+     * @param elapsedMillis elapsed milliseconds of fetching page
+     */
+    public void adjust(final int rowCount, final long pageBytes, final long elapsedMillis) {
+        if (elapsedMillis > TARGET_PAGE_MILLIS || pageBytes > MAX_PAGE_BYTES) {
+            pageSize = Math.max(MIN_PAGE_SIZE, pageSize / 2);
+        } else if (rowCount >= pageSize && elapsedMillis * 2 < TARGET_PAGE_MILLIS && pageBytes * 2 < MAX_PAGE_BYTES) {
+            pageSize = Math.min(MAX_PAGE_SIZE, pageSize * 2);
+        }
+    }
+}
@@ -39,8 +39,11 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -75,6 +78,19 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
      */
     protected abstract ScalingSQLBuilder createSQLBuilder(Map<String, Set<String>> shardingColumnsMap);
     
+    /**
+     * Judge whether update data records could be applied by insert SQL which updates existing rows.
+     *
+     * <p>
+     * Only update data records whose primary key and sharding columns are unchanged are applied by insert SQL.
+     * </p>
+     *
+     * @return update by insert SQL or not
+     */
+    protected boolean isUpdateByUpsert() {
+        return false;
+    }
+    
     @Override
     public final void start() {
         super.start();
@@ -135,6 +151,7 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+        long startMillis = System.currentTimeMillis();
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
             switch (buffer.get(0).getType()) {
@@ -142,7 +159,7 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
                     executeBatchInsert(connection, buffer);
                     break;
                 case ScalingConstant.UPDATE:
-                    executeUpdate(connection, buffer);
+                    executeBatchUpdate(connection, buffer);
                     break;
                 case ScalingConstant.DELETE:
                     executeBatchDelete(connection, buffer);
@@ -152,6 +169,7 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
             }
             connection.commit();
         }
+        log.debug("flush {} {} records of table {} cost {} ms", buffer.size(), buffer.get(0).getType(), buffer.get(0).getTableName(), System.currentTimeMillis() - startMillis);
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
@@ -168,28 +186,58 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
         }
     }
     
-    private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> batchDataRecords = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            String sql = isUpsert(each) ? scalingSqlBuilder.buildInsertSQL(each) : scalingSqlBuilder.buildUpdateSQL(each, extractConditionColumns(each));
+            batchDataRecords.computeIfAbsent(sql, key -> new LinkedList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : batchDataRecords.entrySet()) {
+            if (isUpsert(entry.getValue().get(0))) {
+                executeBatchInsert(connection, entry.getValue());
+            } else {
+                executeBatchUpdate(connection, entry.getKey(), entry.getValue());
+            }
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(record);
-        String updateSql = scalingSqlBuilder.buildUpdateSQL(record, conditionColumns);
-        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
+    private boolean isUpsert(final DataRecord dataRecord) {
+        if (!isUpdateByUpsert()) {
+            return false;
+        }
+        Set<String> shardingColumns = importerConfig.getShardingColumnsMap().get(dataRecord.getTableName());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            Column column = dataRecord.getColumn(i);
+            if (column.isUpdated() && (column.isPrimaryKey() || null != shardingColumns && shardingColumns.contains(column.getName()))) {
+                return false;
             }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+        }
+        return true;
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String updateSQL, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(updateSQL)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                List<Column> conditionColumns = extractConditionColumns(each);
+                List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(each);
+                for (int i = 0; i < updatedColumns.size(); i++) {
+                    ps.setObject(i + 1, updatedColumns.get(i).getValue());
+                }
+                for (int i = 0; i < conditionColumns.size(); i++) {
+                    Column keyColumn = conditionColumns.get(i);
+                    ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+                }
+                ps.addBatch();
             }
-            ps.execute();
+            ps.executeBatch();
         }
     }
     
+    private List<Column> extractConditionColumns(final DataRecord dataRecord) {
+        return RecordUtil.extractConditionColumns(dataRecord, importerConfig.getShardingColumnsMap().get(dataRecord.getTableName()));
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecords.get(0), importerConfig.getShardingColumnsMap().get(dataRecords.get(0).getTableName()));
         String deleteSQL = scalingSqlBuilder.buildDeleteSQL(dataRecords.get(0), conditionColumns);
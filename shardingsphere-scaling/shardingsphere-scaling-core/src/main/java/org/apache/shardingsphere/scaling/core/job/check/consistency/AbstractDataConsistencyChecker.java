@@ -17,33 +17,66 @@
 
 package org.apache.shardingsphere.scaling.core.job.check.consistency;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceFactory;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceWrapper;
 import org.apache.shardingsphere.scaling.core.common.exception.DataCheckFailException;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
 
 import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
  * Abstract data consistency checker.
+ *
+ * <p>
+ * Tables with single integer primary key are checked by primary key range chunks, source and target of chunks are checked in parallel.
+ * Mismatched chunks are split and checked again to locate the inconsistent rows, and checked chunks are skipped when checking again after failure.
+ * </p>
  */
 @RequiredArgsConstructor
 @Getter
 @Slf4j
 public abstract class AbstractDataConsistencyChecker implements DataConsistencyChecker {
     
+    private static final long CHUNK_SIZE = 100000L;
+    
+    private static final long MIN_CHUNK_SIZE = 1000L;
+    
+    private static final int SPLIT_COUNT = 10;
+    
+    private static final Collection<Integer> INTEGER_TYPES = new HashSet<>(Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT));
+    
     private final DataSourceFactory dataSourceFactory = new DataSourceFactory();
     
     private final JobContext jobContext;
@@ -77,6 +110,182 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
         }
     }
     
+    @Override
+    public Map<String, Boolean> dataCheck(final Map<String, Long> checkedPositions) {
+        Map<String, String> tableNameMap = distinctByValue(jobContext.getTaskConfigs()
+                .stream().flatMap(each -> each.getDumperConfig().getTableNameMap().entrySet().stream())
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new)));
+        int concurrency = Math.max(1, jobContext.getJobConfig().getHandleConfig().getConcurrency());
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency * 2, ExecutorThreadFactoryBuilder.build("scaling-data-check-%d"));
+        try (DataSourceWrapper sourceDataSource = getSourceDataSource();
+             DataSourceWrapper targetDataSource = getTargetDataSource()) {
+            Map<String, Boolean> result = new LinkedHashMap<>(tableNameMap.size(), 1);
+            for (Entry<String, String> entry : tableNameMap.entrySet()) {
+                result.put(entry.getValue(), dataValid(new ChunkExecutor(executorService, sourceDataSource, targetDataSource, concurrency, checkedPositions), entry.getKey(), entry.getValue()));
+            }
+            return result;
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException("data check failed.", ex);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private Map<String, String> distinctByValue(final Map<String, String> tableNameMap) {
+        Set<String> distinctSet = new HashSet<>();
+        return tableNameMap.entrySet().stream().filter(entry -> distinctSet.add(entry.getValue()))
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue, (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+    }
+    
+    private boolean dataValid(final ChunkExecutor chunkExecutor, final String actualTableName, final String logicTableName) {
+        Map<String, Integer> columnTypes = new LinkedHashMap<>();
+        List<String> primaryKeys = new LinkedList<>();
+        loadColumns(chunkExecutor.getSourceDataSource(), actualTableName, columnTypes, primaryKeys);
+        List<String> columns = new LinkedList<>(columnTypes.keySet());
+        if (1 != primaryKeys.size() || !INTEGER_TYPES.contains(columnTypes.get(primaryKeys.get(0)))) {
+            return chunkValid(chunkExecutor, chunkExecutor.submit(new DataCheckChunk(logicTableName, columns)));
+        }
+        String primaryKey = primaryKeys.get(0);
+        Optional<PrimaryKeyPosition> range = getPrimaryKeyRange(chunkExecutor, logicTableName, primaryKey);
+        if (!range.isPresent()) {
+            return true;
+        }
+        Long checkedPosition = chunkExecutor.getCheckedPositions().get(logicTableName);
+        if (null != checkedPosition && checkedPosition >= range.get().getEndValue()) {
+            chunkExecutor.getCheckedPositions().remove(logicTableName);
+            return true;
+        }
+        long beginValue = null == checkedPosition ? range.get().getBeginValue() : Math.max(range.get().getBeginValue(), checkedPosition + 1);
+        long endValue;
+        Queue<PendingChunk> pendingChunks = new LinkedList<>();
+        do {
+            endValue = range.get().getEndValue() - beginValue < CHUNK_SIZE ? range.get().getEndValue() : beginValue + CHUNK_SIZE - 1;
+            pendingChunks.add(chunkExecutor.submit(new DataCheckChunk(logicTableName, columns, primaryKey, new PrimaryKeyPosition(beginValue, endValue))));
+            beginValue = endValue + 1;
+            if (!pollChunks(chunkExecutor, pendingChunks, endValue == range.get().getEndValue())) {
+                return false;
+            }
+        } while (endValue < range.get().getEndValue());
+        chunkExecutor.getCheckedPositions().remove(logicTableName);
+        return true;
+    }
+    
+    private boolean pollChunks(final ChunkExecutor chunkExecutor, final Queue<PendingChunk> pendingChunks, final boolean pollAll) {
+        while (!pendingChunks.isEmpty() && (pollAll || pendingChunks.size() >= chunkExecutor.getConcurrency())) {
+            PendingChunk pendingChunk = pendingChunks.poll();
+            if (!chunkValid(chunkExecutor, pendingChunk)) {
+                pendingChunks.forEach(PendingChunk::cancel);
+                return false;
+            }
+            chunkExecutor.getCheckedPositions().put(pendingChunk.getChunk().getTableName(), pendingChunk.getChunk().getRange().getEndValue());
+        }
+        return true;
+    }
+    
+    private boolean chunkValid(final ChunkExecutor chunkExecutor, final PendingChunk pendingChunk) {
+        if (pendingChunk.isMatched()) {
+            return true;
+        }
+        DataCheckChunk chunk = pendingChunk.getChunk();
+        if (!chunk.isSplittable(MIN_CHUNK_SIZE)) {
+            log.warn("Data check mismatched, table: {}, primary key range: {}, source: {}, target: {}",
+                    chunk.getTableName(), null == chunk.getRange() ? "all" : chunk.getRange(), pendingChunk.getSourceChecksum(), pendingChunk.getTargetChecksum());
+            return false;
+        }
+        List<PendingChunk> subChunks = chunk.split(SPLIT_COUNT).stream().map(chunkExecutor::submit).collect(Collectors.toList());
+        boolean result = true;
+        for (PendingChunk each : subChunks) {
+            result &= chunkValid(chunkExecutor, each);
+        }
+        return result;
+    }
+    
+    private void loadColumns(final DataSource dataSource, final String tableName, final Map<String, Integer> columnTypes, final Collection<String> primaryKeys) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, tableName, "%")) {
+                while (resultSet.next()) {
+                    columnTypes.put(resultSet.getString(4), resultSet.getInt(5));
+                }
+            }
+            try (ResultSet resultSet = metaData.getPrimaryKeys(connection.getCatalog(), null, tableName)) {
+                while (resultSet.next()) {
+                    primaryKeys.add(resultSet.getString(4));
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("table %s get columns failed.", tableName), ex);
+        }
+    }
+    
+    private Optional<PrimaryKeyPosition> getPrimaryKeyRange(final ChunkExecutor chunkExecutor, final String tableName, final String primaryKey) {
+        Optional<PrimaryKeyPosition> sourceRange = getPrimaryKeyRange(chunkExecutor.getSourceDataSource(), tableName, primaryKey);
+        Optional<PrimaryKeyPosition> targetRange = getPrimaryKeyRange(chunkExecutor.getTargetDataSource(), tableName, primaryKey);
+        if (!sourceRange.isPresent() || !targetRange.isPresent()) {
+            return sourceRange.isPresent() ? sourceRange : targetRange;
+        }
+        return Optional.of(new PrimaryKeyPosition(Math.min(sourceRange.get().getBeginValue(), targetRange.get().getBeginValue()),
+                Math.max(sourceRange.get().getEndValue(), targetRange.get().getEndValue())));
+    }
+    
+    private Optional<PrimaryKeyPosition> getPrimaryKeyRange(final DataSource dataSource, final String tableName, final String primaryKey) {
+        String sql = getSqlBuilder().buildMinMaxPrimaryKeySQL(tableName, primaryKey);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long beginValue = resultSet.getLong(1);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(new PrimaryKeyPosition(beginValue, resultSet.getLong(2)));
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+        }
+    }
+    
+    /**
+     * Calculate checksum of chunk.
+     *
+     * <p>
+     * Rows are fetched by one query and checksum is the sum of each row's CRC32, dialects could calculate it in database instead.
+     * </p>
+     *
+     * @param dataSource data source
+     * @param chunk data check chunk
+     * @return data checksum
+     */
+    protected DataChecksum calculateChecksum(final DataSource dataSource, final DataCheckChunk chunk) {
+        String sql = getSqlBuilder().buildQueryChunkSQL(chunk.getTableName(), chunk.getColumns(), chunk.getPrimaryKey());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            chunk.setRangeParameters(preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return calculateChecksum(resultSet, chunk.getColumns().size());
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailException(String.format("execute %s failed.", sql), ex);
+        }
+    }
+    
+    private DataChecksum calculateChecksum(final ResultSet resultSet, final int columnCount) throws SQLException {
+        long count = 0L;
+        long checksum = 0L;
+        CRC32 crc32 = new CRC32();
+        while (resultSet.next()) {
+            crc32.reset();
+            for (int i = 1; i <= columnCount; i++) {
+                String value = resultSet.getString(i);
+                if (null == value) {
+                    crc32.update(0);
+                } else {
+                    crc32.update(1);
+                    crc32.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            checksum += crc32.getValue();
+            count++;
+        }
+        return new DataChecksum(count, checksum);
+    }
+    
     protected DataSourceWrapper getSourceDataSource() {
         return dataSourceFactory.newInstance(jobContext.getJobConfig().getRuleConfig().getSource().unwrap());
     }
@@ -86,4 +295,61 @@ public abstract class AbstractDataConsistencyChecker implements DataConsistencyC
     }
     
     protected abstract ScalingSQLBuilder getSqlBuilder();
+    
+    @RequiredArgsConstructor
+    @Getter
+    private final class ChunkExecutor {
+        
+        private final ExecutorService executorService;
+        
+        private final DataSource sourceDataSource;
+        
+        private final DataSource targetDataSource;
+        
+        private final int concurrency;
+        
+        private final Map<String, Long> checkedPositions;
+        
+        private PendingChunk submit(final DataCheckChunk chunk) {
+            return new PendingChunk(chunk, executorService.submit(() -> calculateChecksum(sourceDataSource, chunk)), executorService.submit(() -> calculateChecksum(targetDataSource, chunk)));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingChunk {
+        
+        private final DataCheckChunk chunk;
+        
+        @Getter(AccessLevel.NONE)
+        private final Future<DataChecksum> sourceFuture;
+        
+        @Getter(AccessLevel.NONE)
+        private final Future<DataChecksum> targetFuture;
+        
+        private DataChecksum getSourceChecksum() {
+            return getChecksum(sourceFuture);
+        }
+        
+        private DataChecksum getTargetChecksum() {
+            return getChecksum(targetFuture);
+        }
+        
+        private DataChecksum getChecksum(final Future<DataChecksum> future) {
+            try {
+                return future.get();
+            } catch (final InterruptedException | ExecutionException ex) {
+                throw new DataCheckFailException(String.format("table %s data check failed.", chunk.getTableName()), ex);
+            }
+        }
+        
+        private boolean isMatched() {
+            return getSourceChecksum().equals(getTargetChecksum());
+        }
+        
+        private void cancel() {
+            sourceFuture.cancel(true);
+            targetFuture.cancel(true);
+        }
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check.consistency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data check chunk.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataCheckChunk {
+    
+    private final String tableName;
+    
+    private final List<String> columns;
+    
+    private final String primaryKey;
+    
+    private final PrimaryKeyPosition range;
+    
+    public DataCheckChunk(final String tableName, final List<String> columns) {
+        this(tableName, columns, null, null);
+    }
+    
+    /**
+     * Judge whether chunk can be split into sub chunks.
+     *
+     * @param minChunkSize min chunk size
+     * @return chunk can be split or not
+     */
+    public boolean isSplittable(final long minChunkSize) {
+        return null != range && range.getEndValue() - range.getBeginValue() >= minChunkSize;
+    }
+    
+    /**
+     * Split chunk into sub chunks.
+     *
+     * @param count count of sub chunks
+     * @return sub chunks
+     */
+    public List<DataCheckChunk> split(final int count) {
+        long chunkSize = (range.getEndValue() - range.getBeginValue()) / count + 1;
+        List<DataCheckChunk> result = new ArrayList<>(count);
+        long beginValue = range.getBeginValue();
+        long endValue;
+        do {
+            endValue = range.getEndValue() - beginValue < chunkSize ? range.getEndValue() : beginValue + chunkSize - 1;
+            result.add(new DataCheckChunk(tableName, columns, primaryKey, new PrimaryKeyPosition(beginValue, endValue)));
+            beginValue = endValue + 1;
+        } while (endValue < range.getEndValue());
+        return result;
+    }
+    
+    /**
+     * Set primary key range parameters.
+     *
+     * @param preparedStatement prepared statement
+     * @throws SQLException SQL exception
+     */
+    public void setRangeParameters(final PreparedStatement preparedStatement) throws SQLException {
+        if (null != range) {
+            preparedStatement.setLong(1, range.getBeginValue());
+            preparedStatement.setLong(2, range.getEndValue());
+        }
+    }
+}
@@ -34,7 +34,8 @@ public interface DataConsistencyChecker {
     /**
      * Check each table data is valid.
      *
+     * @param checkedPositions checked primary key positions of tables, checked ranges are skipped and positions are updated while checking
      * @return data is valid or not
      */
-    Map<String, Boolean> dataCheck();
+    Map<String, Boolean> dataCheck(Map<String, Long> checkedPositions);
 }
@@ -130,12 +130,12 @@ public final class InventoryTaskSplitter {
             return false;
         }
         if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", tableName);
+            log.info("Can't split range for table {}, reason: primary key is union primary, dump it by primary key pagination", tableName);
             return false;
         }
         int index = tableMetaData.findColumnIndex(primaryKeys.get(0));
         if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(index).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", tableName);
+            log.info("Can't split range for table {}, reason: primary key is not integer number, dump it by primary key pagination", tableName);
             return false;
         }
         return true;
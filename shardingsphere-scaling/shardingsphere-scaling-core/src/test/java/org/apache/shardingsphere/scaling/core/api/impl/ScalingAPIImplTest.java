@@ -118,10 +118,27 @@ public final class ScalingAPIImplTest {
         Map<String, DataConsistencyCheckResult> checkResultMap = scalingAPI.dataConsistencyCheck(jobId.get());
         assertThat(checkResultMap.size(), is(1));
         assertTrue(checkResultMap.get("t_order").isCountValid());
-        assertFalse(checkResultMap.get("t_order").isDataValid());
+        assertTrue(checkResultMap.get("t_order").isDataValid());
         assertThat(checkResultMap.get("t_order").getTargetCount(), is(2L));
     }
     
+    @Test
+    @SneakyThrows(SQLException.class)
+    public void assertDataConsistencyCheckResumeFromCheckedPosition() {
+        Optional<Long> jobId = scalingAPI.start(ResourceUtil.mockJobConfig());
+        assertTrue(jobId.isPresent());
+        RuleConfiguration ruleConfig = scalingAPI.getJobConfig(jobId.get()).getRuleConfig();
+        initTableData(ruleConfig.getSource().unwrap().toDataSource(), 150000);
+        initTableData(ruleConfig.getTarget().unwrap().toDataSource(), 150000);
+        executeUpdate(ruleConfig.getTarget().unwrap().toDataSource(), "UPDATE t_order SET user_id = 'zzz' WHERE id = 150000");
+        assertFalse(scalingAPI.dataConsistencyCheck(jobId.get()).get("t_order").isDataValid());
+        assertThat(ScalingAPIFactory.getGovernanceRepositoryAPI().getDataCheckPositions(jobId.get()).get("t_order"), is(100000L));
+        executeUpdate(ruleConfig.getTarget().unwrap().toDataSource(), "UPDATE t_order SET user_id = 'yyy' WHERE id = 150000");
+        executeUpdate(ruleConfig.getTarget().unwrap().toDataSource(), "UPDATE t_order SET user_id = 'zzz' WHERE id = 1");
+        assertTrue(scalingAPI.dataConsistencyCheck(jobId.get()).get("t_order").isDataValid());
+        assertTrue(ScalingAPIFactory.getGovernanceRepositoryAPI().getDataCheckPositions(jobId.get()).isEmpty());
+    }
+    
     @Test
     @SneakyThrows(SQLException.class)
     public void assertResetTargetTable() {
@@ -152,11 +169,22 @@ public final class ScalingAPIImplTest {
     }
     
     private void initTableData(final DataSource dataSource) throws SQLException {
+        initTableData(dataSource, 999);
+    }
+    
+    private void initTableData(final DataSource dataSource, final int maxId) throws SQLException {
         try (Connection connection = dataSource.getConnection();
              Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
-            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+            statement.execute(String.format("INSERT INTO t_order (id, user_id) VALUES (1, 'xxx'), (%d, 'yyy')", maxId));
+        }
+    }
+    
+    private void executeUpdate(final DataSource dataSource, final String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
         }
     }
 }
@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
@@ -29,12 +31,18 @@ import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,11 +53,23 @@ import static org.junit.Assert.assertTrue;
 
 public final class DistributionChannelTest {
     
+    private final Collection<Thread> fetchThreads = new LinkedList<>();
+    
+    private volatile boolean running = true;
+    
     @Before
     public void setUp() {
         ScalingContext.getInstance().init(new ServerConfiguration());
     }
     
+    @After
+    public void tearDown() throws InterruptedException {
+        running = false;
+        for (Thread each : fetchThreads) {
+            each.join();
+        }
+    }
+    
     @Test
     public void assertAckCallbackResultSortable() {
         Record[] records = mockRecords();
@@ -68,6 +88,78 @@ public final class DistributionChannelTest {
         execute(records -> assertThat(records.size(), is(2)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    public void assertSameKeyDistributedToSameChannel() throws InterruptedException {
+        Map<Object, Long> fetchedThreads = new ConcurrentHashMap<>();
+        AtomicBoolean distributedToSameChannel = new AtomicBoolean(true);
+        CountDownLatch countDownLatch = new CountDownLatch(100);
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> {
+        });
+        for (int i = 0; i < 2; i++) {
+            startFetchThread(() -> {
+                List<Record> records = distributionChannel.fetchRecords(10, 0);
+                for (Record each : records) {
+                    long threadId = Thread.currentThread().getId();
+                    if (threadId != fetchedThreads.computeIfAbsent(((DataRecord) each).getKey(), key -> threadId)) {
+                        distributedToSameChannel.set(false);
+                    }
+                }
+                distributionChannel.ack();
+                records.forEach(each -> countDownLatch.countDown());
+            });
+        }
+        for (int i = 1; i <= 100; i++) {
+            distributionChannel.pushRecord(mockDataRecord(i, ScalingConstant.UPDATE, i % 5, false));
+        }
+        countDownLatch.await();
+        distributionChannel.close();
+        assertTrue(distributedToSameChannel.get());
+    }
+    
+    @Test
+    public void assertPrimaryKeyUpdatedRecordFetchedInKeyOrder() throws InterruptedException {
+        DataRecord updateRecord = new DataRecord(new IntPosition(3), 2);
+        updateRecord.setTableName("t_order");
+        updateRecord.setType(ScalingConstant.UPDATE);
+        updateRecord.addColumn(new Column("order_id", 1, 2, true, true));
+        updateRecord.addColumn(new Column("user_id", 3, true, false));
+        Record[] records = {mockDataRecord(1, ScalingConstant.INSERT, 1, false), mockDataRecord(2, ScalingConstant.DELETE, 2, false),
+            updateRecord, mockDataRecord(4, ScalingConstant.UPDATE, 2, false), mockDataRecord(5, ScalingConstant.DELETE, 2, false)};
+        List<Integer> fetchedIds = Collections.synchronizedList(new LinkedList<>());
+        CountDownLatch countDownLatch = new CountDownLatch(records.length);
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> {
+        });
+        for (int i = 0; i < 2; i++) {
+            startFetchThread(() -> {
+                List<Record> fetchedRecords = distributionChannel.fetchRecords(10, 0);
+                fetchedRecords.forEach(each -> fetchedIds.add(((IntPosition) each.getPosition()).getId()));
+                distributionChannel.ack();
+                fetchedRecords.forEach(each -> countDownLatch.countDown());
+            });
+        }
+        for (Record each : records) {
+            distributionChannel.pushRecord(each);
+        }
+        countDownLatch.await();
+        distributionChannel.close();
+        assertTrue(fetchedIds.indexOf(1) < fetchedIds.indexOf(3));
+        assertTrue(fetchedIds.indexOf(2) < fetchedIds.indexOf(3));
+        assertTrue(fetchedIds.indexOf(3) < fetchedIds.indexOf(4));
+        assertTrue(fetchedIds.indexOf(4) < fetchedIds.indexOf(5));
+    }
+    
+    @Test
+    public void assertAckCallbackAfterPrimaryKeyUpdated() {
+        AtomicInteger lastId = new AtomicInteger();
+        execute(ackRecords -> {
+            for (Record record : ackRecords) {
+                int currentId = ((IntPosition) record.getPosition()).getId();
+                assertThat(currentId, is(lastId.get() + 1));
+                lastId.set(currentId);
+            }
+        }, 3, mockDataRecord(1, ScalingConstant.INSERT, 1, true), mockDataRecord(2, ScalingConstant.UPDATE, 2, true), mockDataRecord(3, ScalingConstant.DELETE, 2, false));
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int count, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(count);
@@ -87,16 +179,24 @@ public final class DistributionChannelTest {
     
     private void fetchWithMultiThreading(final DistributionChannel distributionChannel, final CountDownLatch countDownLatch) {
         for (int i = 0; i < 2; i++) {
-            new Thread(() -> {
-                while (true) {
-                    List<Record> records = distributionChannel.fetchRecords(100, 0);
-                    distributionChannel.ack();
-                    records.forEach(each -> countDownLatch.countDown());
-                }
-            }).start();
+            startFetchThread(() -> {
+                List<Record> records = distributionChannel.fetchRecords(100, 0);
+                distributionChannel.ack();
+                records.forEach(each -> countDownLatch.countDown());
+            });
         }
     }
     
+    private void startFetchThread(final Runnable fetchTask) {
+        Thread result = new Thread(() -> {
+            while (running) {
+                fetchTask.run();
+            }
+        });
+        fetchThreads.add(result);
+        result.start();
+    }
+    
     private Record[] mockRecords() {
         Record[] result = new Record[100];
         Random random = new Random();
@@ -110,6 +210,15 @@ public final class DistributionChannelTest {
         return result;
     }
     
+    private DataRecord mockDataRecord(final int id, final String type, final int primaryKeyValue, final boolean primaryKeyUpdated) {
+        DataRecord result = new DataRecord(new IntPosition(id), 2);
+        result.setTableName("t_order");
+        result.setType(type);
+        result.addColumn(new Column("order_id", primaryKeyValue, primaryKeyUpdated, true));
+        result.addColumn(new Column("user_id", id, true, false));
+        return result;
+    }
+    
     private int countDataRecord(final Record[] records) {
         return (int) Arrays.stream(records).filter(each -> each instanceof DataRecord).count();
     }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
+import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.fixture.FixtureInventoryDumper;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class AbstractInventoryDumperTest {
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    @Test
+    public void assertDumpByUnionPrimaryKeyPagination() throws SQLException {
+        InventoryDumperConfiguration inventoryDumperConfig = mockInventoryDumperConfiguration();
+        initTableData(dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()), 2500);
+        Channel channel = mock(Channel.class);
+        AbstractInventoryDumper dumper = new FixtureInventoryDumper(inventoryDumperConfig, dataSourceManager);
+        dumper.setChannel(channel);
+        dumper.start();
+        List<DataRecord> actual = captureDataRecords(channel);
+        assertThat(actual.size(), is(2500));
+        assertThat(actual.stream().map(each -> each.getColumn(0).getValue()).distinct().count(), is(2500L));
+        assertThat(actual.get(0).getTableName(), is("t_order"));
+        assertThat(actual.get(2499).getColumn(0).getValue(), is(2500));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<DataRecord> captureDataRecords(final Channel channel) throws InterruptedException {
+        ArgumentCaptor<List<Record>> captor = ArgumentCaptor.forClass(List.class);
+        verify(channel, atLeastOnce()).pushRecords(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).map(each -> (DataRecord) each).collect(Collectors.toList());
+    }
+    
+    private InventoryDumperConfiguration mockInventoryDumperConfiguration() {
+        DumperConfiguration dumperConfig = new DumperConfiguration();
+        dumperConfig.setDataSourceConfig(new StandardJDBCDataSourceConfiguration("jdbc:h2:mem:test_dumper;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "root"));
+        dumperConfig.setTableNameMap(Collections.singletonMap("t_order", "t_order"));
+        InventoryDumperConfiguration result = new InventoryDumperConfiguration(dumperConfig);
+        result.setTableName("t_order");
+        return result;
+    }
+    
+    private void initTableData(final DataSource dataSource, final int rowCount) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT, user_id VARCHAR(12), PRIMARY KEY (order_id, user_id))");
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id) VALUES (?, ?)")) {
+                for (int i = 1; i <= rowCount; i++) {
+                    preparedStatement.setInt(1, i);
+                    preparedStatement.setString(2, "user_" + (i % 3));
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+        }
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.dumper;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PageSizeAdjusterTest {
+    
+    @Test
+    public void assertAdjustWithFastFullPage() {
+        PageSizeAdjuster pageSizeAdjuster = new PageSizeAdjuster();
+        pageSizeAdjuster.adjust(1000, 1000L, 10L);
+        assertThat(pageSizeAdjuster.getPageSize(), is(2000));
+    }
+    
+    @Test
+    public void assertAdjustWithNotFullPage() {
+        PageSizeAdjuster pageSizeAdjuster = new PageSizeAdjuster();
+        pageSizeAdjuster.adjust(999, 1000L, 10L);
+        assertThat(pageSizeAdjuster.getPageSize(), is(1000));
+    }
+    
+    @Test
+    public void assertAdjustWithSlowPage() {
+        PageSizeAdjuster pageSizeAdjuster = new PageSizeAdjuster();
+        pageSizeAdjuster.adjust(1000, 1000L, 5000L);
+        assertThat(pageSizeAdjuster.getPageSize(), is(500));
+    }
+    
+    @Test
+    public void assertAdjustWithLargePage() {
+        PageSizeAdjuster pageSizeAdjuster = new PageSizeAdjuster();
+        for (int i = 0; i < 10; i++) {
+            pageSizeAdjuster.adjust(pageSizeAdjuster.getPageSize(), 64L * 1024 * 1024, 10L);
+        }
+        assertThat(pageSizeAdjuster.getPageSize(), is(100));
+    }
+}
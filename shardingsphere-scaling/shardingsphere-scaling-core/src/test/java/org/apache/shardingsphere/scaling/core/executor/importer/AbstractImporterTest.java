@@ -41,6 +41,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -49,6 +50,7 @@ import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -136,7 +138,24 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertBatchUpdateDataRecords() throws SQLException {
+        DataRecord updateRecord = getDataRecord("UPDATE");
+        DataRecord anotherUpdateRecord = getDataRecord("UPDATE", 2);
+        when(scalingSqlBuilder.buildUpdateSQL(updateRecord, mockConditionColumns(updateRecord))).thenReturn(UPDATE_SQL);
+        when(scalingSqlBuilder.buildUpdateSQL(anotherUpdateRecord, mockConditionColumns(anotherUpdateRecord))).thenReturn(UPDATE_SQL);
+        when(connection.prepareStatement(UPDATE_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(updateRecord, anotherUpdateRecord));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(UPDATE_SQL);
+        verify(preparedStatement).setObject(3, 1);
+        verify(preparedStatement).setObject(3, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -152,7 +171,8 @@ public final class AbstractImporterTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 10);
-        inOrder.verify(preparedStatement).execute();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -169,18 +189,21 @@ public final class AbstractImporterTest {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("user"));
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new PlaceholderPosition()));
         return result;
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.scaling.core.fixture.FixtureSQLBuilder;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -68,6 +69,24 @@ public final class AbstractSqlBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ? and `sc` = ?"));
     }
     
+    @Test
+    public void assertBuildMinMaxPrimaryKeySQL() {
+        String actual = scalingSqlBuilder.buildMinMaxPrimaryKeySQL("t1", "id");
+        assertThat(actual, is("SELECT MIN(`id`), MAX(`id`) FROM `t1`"));
+    }
+    
+    @Test
+    public void assertBuildQueryChunkSQL() {
+        String actual = scalingSqlBuilder.buildQueryChunkSQL("t1", Arrays.asList("id", "c1"), "id");
+        assertThat(actual, is("SELECT `id`,`c1` FROM `t1` WHERE `id` BETWEEN ? AND ?"));
+    }
+    
+    @Test
+    public void assertBuildQueryChunkSQLWithoutPrimaryKey() {
+        String actual = scalingSqlBuilder.buildQueryChunkSQL("t1", Arrays.asList("id", "c1"), null);
+        assertThat(actual, is("SELECT `id`,`c1` FROM `t1`"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Sets.newHashSet("sc"));
     }
@@ -23,7 +23,6 @@ import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractDataConsistencyChecker;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 
-import java.util.Collections;
 import java.util.Map;
 
 public final class FixtureDataConsistencyChecker extends AbstractDataConsistencyChecker {
@@ -37,11 +36,6 @@ public final class FixtureDataConsistencyChecker extends AbstractDataConsistency
         return super.countCheck();
     }
     
-    @Override
-    public Map<String, Boolean> dataCheck() {
-        return Collections.emptyMap();
-    }
-    
     @Override
     protected ScalingSQLBuilder getSqlBuilder() {
         return new FixtureSQLBuilder(Maps.newHashMap());
@@ -30,9 +30,11 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -49,6 +51,38 @@ public final class AbstractDataConsistencyCheckerTest {
         assertThat(resultMap.get("t_order").getSourceCount(), is(resultMap.get("t_order").getTargetCount()));
     }
     
+    @Test
+    public void assertDataCheck() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        assertTrue(dataConsistencyChecker.dataCheck(new HashMap<>()).get("t_order"));
+    }
+    
+    @Test
+    public void assertDataCheckWithMismatchedData() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        updateTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        assertFalse(dataConsistencyChecker.dataCheck(new HashMap<>()).get("t_order"));
+    }
+    
+    @Test
+    public void assertDataCheckSkipCheckedPosition() {
+        JobContext jobContext = new JobContext(ResourceUtil.mockJobConfig());
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext);
+        initTableData(jobContext.getTaskConfigs().get(0).getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        updateTableData(jobContext.getTaskConfigs().get(0).getImporterConfig().getDataSourceConfig());
+        Map<String, Long> checkedPositions = new HashMap<>();
+        checkedPositions.put("t_order", 999L);
+        assertTrue(dataConsistencyChecker.dataCheck(checkedPositions).get("t_order"));
+        assertTrue(checkedPositions.isEmpty());
+    }
+    
     @SneakyThrows(SQLException.class)
     private void initTableData(final ScalingDataSourceConfiguration dataSourceConfig) {
         DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
@@ -59,4 +93,13 @@ public final class AbstractDataConsistencyCheckerTest {
             statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
         }
     }
+    
+    @SneakyThrows(SQLException.class)
+    private void updateTableData(final ScalingDataSourceConfiguration dataSourceConfig) {
+        DataSource dataSource = new DataSourceManager().getDataSource(dataSourceConfig);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET user_id = 'zzz' WHERE order_id = 999");
+        }
+    }
 }
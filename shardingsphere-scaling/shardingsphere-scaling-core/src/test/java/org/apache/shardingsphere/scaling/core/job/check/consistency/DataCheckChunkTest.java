@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.job.check.consistency;
+
+import org.apache.shardingsphere.scaling.core.job.position.PrimaryKeyPosition;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataCheckChunkTest {
+    
+    @Test
+    public void assertIsSplittable() {
+        assertTrue(new DataCheckChunk("t_order", Collections.singletonList("order_id"), "order_id", new PrimaryKeyPosition(1L, 1001L)).isSplittable(1000L));
+        assertFalse(new DataCheckChunk("t_order", Collections.singletonList("order_id"), "order_id", new PrimaryKeyPosition(1L, 1000L)).isSplittable(1000L));
+        assertFalse(new DataCheckChunk("t_order", Collections.singletonList("order_id")).isSplittable(1000L));
+    }
+    
+    @Test
+    public void assertSplit() {
+        List<DataCheckChunk> actual = new DataCheckChunk("t_order", Collections.singletonList("order_id"), "order_id", new PrimaryKeyPosition(1L, 25L)).split(10);
+        assertThat(actual.size(), is(9));
+        assertThat(actual.get(0).getRange().toString(), is("1,3"));
+        assertThat(actual.get(8).getRange().toString(), is("25,25"));
+    }
+    
+    @Test
+    public void assertSplitToMaxValue() {
+        List<DataCheckChunk> actual = new DataCheckChunk("t_order", Collections.singletonList("order_id"), "order_id", new PrimaryKeyPosition(Long.MAX_VALUE - 19L, Long.MAX_VALUE)).split(10);
+        assertThat(actual.size(), is(10));
+        assertThat(actual.get(9).getRange().getEndValue(), is(Long.MAX_VALUE));
+    }
+}
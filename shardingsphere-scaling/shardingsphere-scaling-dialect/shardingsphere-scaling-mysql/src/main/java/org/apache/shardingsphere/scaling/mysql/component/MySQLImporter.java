@@ -41,4 +41,9 @@ public final class MySQLImporter extends AbstractImporter {
     protected ScalingSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
         return new MySQLScalingSQLBuilder(shardingColumnsMap);
     }
+    
+    @Override
+    protected boolean isUpdateByUpsert() {
+        return true;
+    }
 }
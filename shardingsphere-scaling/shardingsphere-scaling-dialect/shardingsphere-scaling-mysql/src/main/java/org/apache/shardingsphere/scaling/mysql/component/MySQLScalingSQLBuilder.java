@@ -21,8 +21,10 @@ import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.sqlbuilder.AbstractScalingSQLBuilder;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL SQL builder.
@@ -68,13 +70,16 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     }
     
     /**
-     * Build select sum crc32 SQL.
+     * Build checksum chunk SQL.
      *
-     * @param tableName table Name
-     * @param column column
-     * @return select sum crc32 SQL
+     * @param tableName table name
+     * @param columns columns
+     * @param primaryKey primary key to check rows between two parameters, null means check all rows
+     * @return checksum chunk SQL
      */
-    public String buildSumCrc32SQL(final String tableName, final String column) {
-        return String.format("SELECT SUM(CRC32(%s)) from %s", quote(column), quote(tableName));
+    public String buildChecksumChunkSQL(final String tableName, final Collection<String> columns, final String primaryKey) {
+        String quotedColumns = columns.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        String nullFlags = columns.stream().map(each -> String.format("ISNULL(%s)", quote(each))).collect(Collectors.joining(","));
+        return String.format("SELECT COUNT(*), SUM(CRC32(CONCAT_WS(',',%s,%s))) FROM %s%s", quotedColumns, nullFlags, quote(tableName), buildPrimaryKeyRangeSQL(primaryKey));
     }
 }
@@ -30,6 +30,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLImporterTest {
@@ -47,6 +48,11 @@ public final class MySQLImporterTest {
         assertThat(insertSQL, is("INSERT INTO `t_order`(`id`,`name`) VALUES(?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`)"));
     }
     
+    @Test
+    public void assertIsUpdateByUpsert() {
+        assertTrue(new MySQLImporter(importerConfig, dataSourceManager).isUpdateByUpsert());
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new BinlogPosition("binlog-000001", 4), 2);
         result.setTableName("t_order");
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -46,9 +47,15 @@ public final class MySQLScalingSQLBuilderTest {
     }
     
     @Test
-    public void assertBuildSumCrc32SQL() {
-        String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
-        assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
+    public void assertBuildChecksumChunkSQL() {
+        String actual = sqlBuilder.buildChecksumChunkSQL("t2", Arrays.asList("id", "c1"), "id");
+        assertThat(actual, is("SELECT COUNT(*), SUM(CRC32(CONCAT_WS(',',`id`,`c1`,ISNULL(`id`),ISNULL(`c1`)))) FROM `t2` WHERE `id` BETWEEN ? AND ?"));
+    }
+    
+    @Test
+    public void assertBuildChecksumChunkSQLWithoutPrimaryKey() {
+        String actual = sqlBuilder.buildChecksumChunkSQL("t2", Arrays.asList("id", "c1"), null);
+        assertThat(actual, is("SELECT COUNT(*), SUM(CRC32(CONCAT_WS(',',`id`,`c1`,ISNULL(`id`),ISNULL(`c1`)))) FROM `t2`"));
     }
     
     private DataRecord mockDataRecord(final String tableName) {
@@ -23,9 +23,6 @@ import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.AbstractDataConsistencyChecker;
 import org.apache.shardingsphere.scaling.postgresql.component.PostgreSQLScalingSQLBuilder;
 
-import java.util.Collections;
-import java.util.Map;
-
 /**
  * PostgreSQL data consistency checker.
  */
@@ -35,11 +32,6 @@ public final class PostgreSQLDataConsistencyChecker extends AbstractDataConsiste
         super(jobContext);
     }
     
-    @Override
-    public Map<String, Boolean> dataCheck() {
-        return Collections.emptyMap();
-    }
-    
     @Override
     protected ScalingSQLBuilder getSqlBuilder() {
         return new PostgreSQLScalingSQLBuilder(Maps.newHashMap());
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.api.SQLTemplateParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLTemplateParserTest {
+    
+    private final SQLTemplateParserEngine templateParserEngine = new SQLTemplateParserEngine("MySQL");
+    
+    private final SQLVisitorEngine visitorEngine = new SQLVisitorEngine("MySQL", "STATEMENT", new Properties());
+    
+    @Test
+    public void assertParseWithTemplate() {
+        SelectStatement first = templateParserEngine.parse("SELECT * FROM t_order WHERE order_id = 1", visitorEngine::visit);
+        SelectStatement second = templateParserEngine.parse("SELECT * FROM t_order_item WHERE item_id = 1000", visitorEngine::visit);
+        assertThat(templateParserEngine.getCacheStats().missCount(), is(1L));
+        assertThat(templateParserEngine.getCacheStats().hitCount(), is(1L));
+        assertSelectStatement(first, "t_order", "order_id = 1", 39);
+        assertSelectStatement(second, "t_order_item", "item_id = 1000", 46);
+    }
+    
+    @Test
+    public void assertParseWithDifferentTokenTypes() {
+        templateParserEngine.parse("SELECT * FROM t_order WHERE order_id = 1", visitorEngine::visit);
+        SelectStatement actual = templateParserEngine.parse("SELECT * FROM t_order WHERE order_id = 'foo'", visitorEngine::visit);
+        assertThat(templateParserEngine.getCacheStats().missCount(), is(2L));
+        assertSelectStatement(actual, "t_order", "order_id = 'foo'", 43);
+    }
+    
+    private void assertSelectStatement(final SelectStatement actual, final String tableName, final String predicate, final int stopIndex) {
+        assertThat(((SimpleTableSegment) actual.getFrom()).getTableName().getIdentifier().getValue(), is(tableName));
+        BinaryOperationExpression expression = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        assertThat(expression.getText(), is(predicate));
+        assertThat(expression.getRight().getStopIndex(), is(stopIndex));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.postgresql.parser;
+
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathParser;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathToken;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLUpdateStatement;
+
+import java.util.List;
+
+/**
+ * Fast path parser for PostgreSQL.
+ */
+public final class PostgreSQLFastPathParser extends FastPathParser {
+    
+    public PostgreSQLFastPathParser() {
+        super("PostgreSQL", '"');
+    }
+    
+    @Override
+    protected SelectStatement createSelectStatement() {
+        return new PostgreSQLSelectStatement();
+    }
+    
+    @Override
+    protected InsertStatement createInsertStatement() {
+        return new PostgreSQLInsertStatement();
+    }
+    
+    @Override
+    protected UpdateStatement createUpdateStatement() {
+        return new PostgreSQLUpdateStatement();
+    }
+    
+    @Override
+    protected DeleteStatement createDeleteStatement() {
+        return new PostgreSQLDeleteStatement();
+    }
+    
+    @Override
+    protected boolean isInsertIntoOptional() {
+        return false;
+    }
+    
+    @Override
+    protected boolean isValueKeywordSupported() {
+        return false;
+    }
+    
+    @Override
+    protected InsertColumnsSegment createInsertColumnsSegment(final FastPathToken leftParen, final FastPathToken rightParen, final List<ColumnSegment> columns) {
+        return new InsertColumnsSegment(columns.get(0).getStartIndex() - 1, columns.get(columns.size() - 1).getStopIndex() + 1, columns);
+    }
+    
+    @Override
+    protected SetAssignmentSegment createSetAssignmentSegment(final FastPathToken set, final List<AssignmentSegment> assignments) {
+        return new SetAssignmentSegment(assignments.get(0).getStartIndex() - 4, assignments.get(assignments.size() - 1).getStopIndex(), assignments);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.postgresql;
+
+import org.apache.shardingsphere.test.sql.parser.parameterized.engine.SQLFastPathParserParameterizedTest;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public final class PostgreSQLFastPathParserParameterizedTest extends SQLFastPathParserParameterizedTest {
+    
+    public PostgreSQLFastPathParserParameterizedTest(final String sql, final boolean recognized) {
+        super("PostgreSQL", sql, recognized);
+    }
+    
+    @Parameters(name = "{0} -> {1}")
+    public static Collection<Object[]> getTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {"SELECT * FROM t_order WHERE order_id = ?", true},
+                {"select order_id, user_id FROM \"t_order\" where \"order_id\" = ? and user_id = ?", true},
+                {"INSERT INTO t_order (order_id, user_id) VALUES (?, ?)", true},
+                {"INSERT INTO t_order VALUES (?, ?)", true},
+                {"UPDATE t_order SET user_id = ?, order_id = ? WHERE order_id = ?", true},
+                {"DELETE FROM t_order WHERE order_id = ?", true},
+                {"SELECT * FROM t_order WHERE order_id = 1", false},
+                {"SELECT * FROM t_order WHERE order_id = ?::int", false},
+                {"SELECT * FROM public.t_order WHERE order_id = ?", false},
+                {"SELECT * FROM t_order WHERE order_id = ? FOR UPDATE", false},
+                {"INSERT t_order VALUES (?, ?)", false},
+                {"INSERT INTO t_order (order_id) VALUES (?) RETURNING order_id", false},
+                {"DELETE FROM t_order WHERE order_id = ? -- comment", false}
+        });
+    }
+}
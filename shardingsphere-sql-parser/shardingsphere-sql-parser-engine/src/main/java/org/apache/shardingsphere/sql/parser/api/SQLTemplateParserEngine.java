@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.template.BindableToken;
+import org.apache.shardingsphere.sql.parser.core.template.BindableTokenFactory;
+import org.apache.shardingsphere.sql.parser.core.template.ParseTreeTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * SQL template parser engine.
+ *
+ * <p>
+ * SQL is tokenized first, and parse trees are cached by token types of SQL.
+ * SQL which only differs in literals or identifiers reuses cached parse tree by binding tokens, and skips parsing.
+ * </p>
+ */
+public final class SQLTemplateParserEngine {
+    
+    private static final BindableTokenFactory TOKEN_FACTORY = new BindableTokenFactory();
+    
+    private final String databaseType;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Cache<String, Queue<ParseTreeTemplate>> templateCache;
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    public SQLTemplateParserEngine(final String databaseType) {
+        this(databaseType, new CacheOption(128, 1024L, 4));
+    }
+    
+    public SQLTemplateParserEngine(final String databaseType, final CacheOption cacheOption) {
+        this.databaseType = databaseType;
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        templateCache = CacheBuilder.newBuilder().softValues().recordStats()
+                .initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).concurrencyLevel(cacheOption.getConcurrencyLevel()).build();
+    }
+    
+    /**
+     * Parse SQL and visit parse tree.
+     *
+     * @param sql SQL to be parsed
+     * @param visitor visitor of parse tree, which should not hold parse tree after visited
+     * @param <T> type of visitor result
+     * @return visitor result
+     */
+    public <T> T parse(final String sql, final Function<ParseTree, T> visitor) {
+        List<BindableToken> tokens = tokenize(sql);
+        Queue<ParseTreeTemplate> templates = templateCache.asMap().computeIfAbsent(getTemplateKey(tokens), unused -> new ConcurrentLinkedQueue<>());
+        ParseTreeTemplate template = templates.poll();
+        if (null != template) {
+            hitCount.increment();
+            try {
+                return visitor.apply(template.bind(tokens));
+            } finally {
+                templates.offer(template);
+            }
+        }
+        missCount.increment();
+        ParseTree parseTree = sqlParserExecutor.parse(new CommonTokenStream(new ListTokenSource(tokens)), sql);
+        T result = visitor.apply(parseTree);
+        templates.offer(new ParseTreeTemplate(tokens, parseTree));
+        return result;
+    }
+    
+    private List<BindableToken> tokenize(final String sql) {
+        Lexer lexer = SQLParserFactory.newLexer(databaseType, sql);
+        lexer.setTokenFactory(TOKEN_FACTORY);
+        List<BindableToken> result = new ArrayList<>();
+        BindableToken each;
+        do {
+            each = (BindableToken) lexer.nextToken();
+            result.add(each);
+        } while (Token.EOF != each.getType());
+        return result;
+    }
+    
+    private String getTemplateKey(final List<BindableToken> tokens) {
+        StringBuilder result = new StringBuilder(tokens.size());
+        for (BindableToken each : tokens) {
+            result.append((char) each.getType());
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Get statistics of template cache.
+     *
+     * @return statistics of template cache
+     */
+    public CacheStats getCacheStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), 0L, 0L, 0L, templateCache.stats().evictionCount());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path lexer.
+ *
+ * <p>
+ * Only recognizes ASCII words, quoted identifiers and the symbols {@code ( ) , = ? *} separated by blanks.
+ * Any other character, such as literals, comments, dots or operators, makes the SQL unrecognized.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class FastPathLexer {
+    
+    private final char identifierQuoteCharacter;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL to be tokenized
+     * @return tokens, or empty if SQL contains any unrecognized character
+     */
+    public Optional<List<FastPathToken>> tokenize(final String sql) {
+        List<FastPathToken> result = new ArrayList<>(32);
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if (isBlank(current)) {
+                index++;
+                continue;
+            }
+            int stopIndex;
+            FastPathTokenType type;
+            if (isLetter(current)) {
+                stopIndex = index;
+                while (stopIndex + 1 < length && isWordPart(sql.charAt(stopIndex + 1))) {
+                    stopIndex++;
+                }
+                type = FastPathTokenType.WORD;
+            } else if (identifierQuoteCharacter == current) {
+                stopIndex = findQuotedIdentifierStopIndex(sql, index);
+                if (-1 == stopIndex) {
+                    return Optional.empty();
+                }
+                type = FastPathTokenType.QUOTED_IDENTIFIER;
+            } else {
+                type = getSymbolType(current);
+                if (null == type) {
+                    return Optional.empty();
+                }
+                stopIndex = index;
+            }
+            result.add(new FastPathToken(type, sql.substring(index, stopIndex + 1), index, stopIndex));
+            index = stopIndex + 1;
+        }
+        result.add(new FastPathToken(FastPathTokenType.EOF, "", length, length));
+        return Optional.of(result);
+    }
+    
+    private int findQuotedIdentifierStopIndex(final String sql, final int startIndex) {
+        int result = startIndex + 1;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if (identifierQuoteCharacter == current) {
+                return result > startIndex + 1 ? result : -1;
+            }
+            if (current > 127) {
+                return -1;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private static boolean isBlank(final char character) {
+        return ' ' == character || '\t' == character || '\r' == character || '\n' == character;
+    }
+    
+    private static boolean isLetter(final char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z';
+    }
+    
+    private static boolean isWordPart(final char character) {
+        return isLetter(character) || character >= '0' && character <= '9' || '_' == character;
+    }
+    
+    private static FastPathTokenType getSymbolType(final char character) {
+        switch (character) {
+            case '(':
+                return FastPathTokenType.LP;
+            case ')':
+                return FastPathTokenType.RP;
+            case ',':
+                return FastPathTokenType.COMMA;
+            case '=':
+                return FastPathTokenType.EQ;
+            case '?':
+                return FastPathTokenType.QUESTION;
+            case '*':
+                return FastPathTokenType.ASTERISK;
+            default:
+                return null;
+        }
+    }
+}
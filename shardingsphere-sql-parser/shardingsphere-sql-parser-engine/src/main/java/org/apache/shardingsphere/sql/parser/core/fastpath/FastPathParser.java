@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Fast path parser.
+ *
+ * <p>
+ * Recursive descent parser for the most frequent simple DML shapes, which builds the same SQL statement as ANTLR parser and visitor do:
+ * </p>
+ * <ul>
+ *     <li>{@code SELECT * | col [, col ...] FROM t [WHERE col = ? [AND col = ? ...]]}</li>
+ *     <li>{@code INSERT INTO t [(col [, col ...])] VALUES (? [, ? ...])}</li>
+ *     <li>{@code UPDATE t SET col = ? [, col = ? ...] [WHERE col = ? [AND col = ? ...]]}</li>
+ *     <li>{@code DELETE FROM t [WHERE col = ? [AND col = ? ...]]}</li>
+ * </ul>
+ * <p>
+ * Unquoted identifiers which are keywords of the dialect lexer are never accepted, any other SQL is left to ANTLR parser.
+ * Dialect parsers are provided by SQL parser dialect modules and registered by {@code ServiceLoader}.
+ * </p>
+ */
+public abstract class FastPathParser {
+    
+    private static final Pattern KEYWORD_PATTERN = Pattern.compile("[A-Z][A-Z0-9_]*[A-Z0-9]");
+    
+    @Getter
+    private final String databaseType;
+    
+    private final FastPathLexer lexer;
+    
+    private final Collection<String> keywords;
+    
+    protected FastPathParser(final String databaseType, final char identifierQuoteCharacter) {
+        this.databaseType = databaseType;
+        lexer = new FastPathLexer(identifierQuoteCharacter);
+        keywords = loadKeywords(databaseType);
+    }
+    
+    private static Collection<String> loadKeywords(final String databaseType) {
+        Collection<String> result = new HashSet<>();
+        for (String each : SQLParserFactory.newLexer(databaseType, "").getTokenTypeMap().keySet()) {
+            if (KEYWORD_PATTERN.matcher(each).matches()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement, or empty if SQL is not a recognized shape
+     */
+    public final Optional<SQLStatement> parse(final String sql) {
+        Optional<List<FastPathToken>> tokens = lexer.tokenize(sql);
+        if (!tokens.isPresent()) {
+            return Optional.empty();
+        }
+        ParseContext context = new ParseContext(sql, tokens.get());
+        try {
+            SQLStatement result = parseStatement(context);
+            context.expect(FastPathTokenType.EOF);
+            return Optional.of(result);
+        } catch (final UnrecognizedShapeException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private SQLStatement parseStatement(final ParseContext context) {
+        FastPathToken first = context.peek();
+        if (isKeyword(first, "SELECT")) {
+            return parseSelect(context);
+        }
+        if (isKeyword(first, "INSERT")) {
+            return parseInsert(context);
+        }
+        if (isKeyword(first, "UPDATE")) {
+            return parseUpdate(context);
+        }
+        if (isKeyword(first, "DELETE")) {
+            return parseDelete(context);
+        }
+        throw UnrecognizedShapeException.INSTANCE;
+    }
+    
+    private SelectStatement parseSelect(final ParseContext context) {
+        context.next();
+        SelectStatement result = createSelectStatement();
+        result.setProjections(parseProjections(context));
+        expectKeyword(context, "FROM");
+        result.setFrom(parseTable(context));
+        if (isKeyword(context.peek(), "WHERE")) {
+            result.setWhere(parseWhere(context));
+        }
+        result.setParameterCount(context.getParameterCount());
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections(final ParseContext context) {
+        if (FastPathTokenType.ASTERISK == context.peek().getType()) {
+            FastPathToken asterisk = context.next();
+            ProjectionsSegment result = new ProjectionsSegment(asterisk.getStartIndex(), asterisk.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+            return result;
+        }
+        List<ColumnSegment> columns = parseColumns(context);
+        ProjectionsSegment result = new ProjectionsSegment(columns.get(0).getStartIndex(), columns.get(columns.size() - 1).getStopIndex());
+        for (ColumnSegment each : columns) {
+            result.getProjections().add(new ColumnProjectionSegment(each));
+        }
+        return result;
+    }
+    
+    private InsertStatement parseInsert(final ParseContext context) {
+        context.next();
+        if (isKeyword(context.peek(), "INTO")) {
+            context.next();
+        } else if (!isInsertIntoOptional()) {
+            throw UnrecognizedShapeException.INSTANCE;
+        }
+        SimpleTableSegment table = parseTable(context);
+        InsertStatement result = createInsertStatement();
+        if (FastPathTokenType.LP == context.peek().getType()) {
+            FastPathToken leftParen = context.next();
+            List<ColumnSegment> columns = parseColumns(context);
+            FastPathToken rightParen = context.expect(FastPathTokenType.RP);
+            result.setInsertColumns(createInsertColumnsSegment(leftParen, rightParen, columns));
+        } else {
+            int startIndex = context.peek().getStartIndex() - 1;
+            result.setInsertColumns(new InsertColumnsSegment(startIndex, startIndex, Collections.emptyList()));
+        }
+        FastPathToken values = context.next();
+        if (!isKeyword(values, "VALUES") && !(isKeyword(values, "VALUE") && isValueKeywordSupported())) {
+            throw UnrecognizedShapeException.INSTANCE;
+        }
+        FastPathToken leftParen = context.expect(FastPathTokenType.LP);
+        List<ExpressionSegment> parameterMarkers = new LinkedList<>();
+        parameterMarkers.add(parseParameterMarker(context));
+        while (FastPathTokenType.COMMA == context.peek().getType()) {
+            context.next();
+            parameterMarkers.add(parseParameterMarker(context));
+        }
+        FastPathToken rightParen = context.expect(FastPathTokenType.RP);
+        result.getValues().add(new InsertValuesSegment(leftParen.getStartIndex(), rightParen.getStopIndex(), parameterMarkers));
+        result.setTable(table);
+        result.setParameterCount(context.getParameterCount());
+        return result;
+    }
+    
+    private UpdateStatement parseUpdate(final ParseContext context) {
+        context.next();
+        UpdateStatement result = createUpdateStatement();
+        result.setTableSegment(parseTable(context));
+        FastPathToken set = expectKeyword(context, "SET");
+        List<AssignmentSegment> assignments = new LinkedList<>();
+        assignments.add(parseAssignment(context));
+        while (FastPathTokenType.COMMA == context.peek().getType()) {
+            context.next();
+            assignments.add(parseAssignment(context));
+        }
+        result.setSetAssignment(createSetAssignmentSegment(set, assignments));
+        if (isKeyword(context.peek(), "WHERE")) {
+            result.setWhere(parseWhere(context));
+        }
+        result.setParameterCount(context.getParameterCount());
+        return result;
+    }
+    
+    private AssignmentSegment parseAssignment(final ParseContext context) {
+        ColumnSegment column = parseColumn(context);
+        context.expect(FastPathTokenType.EQ);
+        ParameterMarkerExpressionSegment value = parseParameterMarker(context);
+        return new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value);
+    }
+    
+    private DeleteStatement parseDelete(final ParseContext context) {
+        context.next();
+        expectKeyword(context, "FROM");
+        DeleteStatement result = createDeleteStatement();
+        result.setTableSegment(parseTable(context));
+        if (isKeyword(context.peek(), "WHERE")) {
+            result.setWhere(parseWhere(context));
+        }
+        result.setParameterCount(context.getParameterCount());
+        return result;
+    }
+    
+    private WhereSegment parseWhere(final ParseContext context) {
+        FastPathToken where = context.next();
+        ExpressionSegment expr = parseEqualsParameterMarker(context);
+        while (isKeyword(context.peek(), "AND")) {
+            FastPathToken operator = context.next();
+            ExpressionSegment right = parseEqualsParameterMarker(context);
+            expr = new BinaryOperationExpression(expr.getStartIndex(), right.getStopIndex(), expr, right, operator.getText(), context.getText(expr.getStartIndex(), right.getStopIndex()));
+        }
+        return new WhereSegment(where.getStartIndex(), expr.getStopIndex(), expr);
+    }
+    
+    private ExpressionSegment parseEqualsParameterMarker(final ParseContext context) {
+        ColumnSegment left = parseColumn(context);
+        FastPathToken operator = context.expect(FastPathTokenType.EQ);
+        ParameterMarkerExpressionSegment right = parseParameterMarker(context);
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator.getText(), context.getText(left.getStartIndex(), right.getStopIndex()));
+    }
+    
+    private ParameterMarkerExpressionSegment parseParameterMarker(final ParseContext context) {
+        FastPathToken parameterMarker = context.expect(FastPathTokenType.QUESTION);
+        return new ParameterMarkerExpressionSegment(parameterMarker.getStartIndex(), parameterMarker.getStopIndex(), context.nextParameterIndex());
+    }
+    
+    private List<ColumnSegment> parseColumns(final ParseContext context) {
+        List<ColumnSegment> result = new LinkedList<>();
+        result.add(parseColumn(context));
+        while (FastPathTokenType.COMMA == context.peek().getType()) {
+            context.next();
+            result.add(parseColumn(context));
+        }
+        return result;
+    }
+    
+    private ColumnSegment parseColumn(final ParseContext context) {
+        FastPathToken identifier = parseIdentifier(context);
+        return new ColumnSegment(identifier.getStartIndex(), identifier.getStopIndex(), new IdentifierValue(identifier.getText()));
+    }
+    
+    private SimpleTableSegment parseTable(final ParseContext context) {
+        FastPathToken identifier = parseIdentifier(context);
+        return new SimpleTableSegment(new TableNameSegment(identifier.getStartIndex(), identifier.getStopIndex(), new IdentifierValue(identifier.getText())));
+    }
+    
+    private FastPathToken parseIdentifier(final ParseContext context) {
+        FastPathToken result = context.next();
+        if (FastPathTokenType.QUOTED_IDENTIFIER == result.getType() || FastPathTokenType.WORD == result.getType() && !keywords.contains(result.getText().toUpperCase())) {
+            return result;
+        }
+        throw UnrecognizedShapeException.INSTANCE;
+    }
+    
+    private FastPathToken expectKeyword(final ParseContext context, final String keyword) {
+        FastPathToken result = context.next();
+        if (!isKeyword(result, keyword)) {
+            throw UnrecognizedShapeException.INSTANCE;
+        }
+        return result;
+    }
+    
+    private boolean isKeyword(final FastPathToken token, final String keyword) {
+        return FastPathTokenType.WORD == token.getType() && keyword.equalsIgnoreCase(token.getText());
+    }
+    
+    protected abstract SelectStatement createSelectStatement();
+    
+    protected abstract InsertStatement createInsertStatement();
+    
+    protected abstract UpdateStatement createUpdateStatement();
+    
+    protected abstract DeleteStatement createDeleteStatement();
+    
+    protected abstract boolean isInsertIntoOptional();
+    
+    protected abstract boolean isValueKeywordSupported();
+    
+    protected abstract InsertColumnsSegment createInsertColumnsSegment(FastPathToken leftParen, FastPathToken rightParen, List<ColumnSegment> columns);
+    
+    protected abstract SetAssignmentSegment createSetAssignmentSegment(FastPathToken set, List<AssignmentSegment> assignments);
+    
+    @RequiredArgsConstructor
+    private static final class ParseContext {
+        
+        private final String sql;
+        
+        private final List<FastPathToken> tokens;
+        
+        private int position;
+        
+        private int parameterCount;
+        
+        FastPathToken peek() {
+            return tokens.get(position);
+        }
+        
+        FastPathToken next() {
+            FastPathToken result = tokens.get(position);
+            if (FastPathTokenType.EOF != result.getType()) {
+                position++;
+            }
+            return result;
+        }
+        
+        FastPathToken expect(final FastPathTokenType type) {
+            FastPathToken result = next();
+            if (type != result.getType()) {
+                throw UnrecognizedShapeException.INSTANCE;
+            }
+            return result;
+        }
+        
+        int nextParameterIndex() {
+            return parameterCount++;
+        }
+        
+        int getParameterCount() {
+            return parameterCount;
+        }
+        
+        String getText(final int startIndex, final int stopIndex) {
+            return sql.substring(startIndex, stopIndex + 1);
+        }
+    }
+    
+    private static final class UnrecognizedShapeException extends RuntimeException {
+        
+        private static final long serialVersionUID = -3526547421583869870L;
+        
+        private static final UnrecognizedShapeException INSTANCE = new UnrecognizedShapeException();
+        
+        private UnrecognizedShapeException() {
+            super(null, null, false, false);
+        }
+    }
+}
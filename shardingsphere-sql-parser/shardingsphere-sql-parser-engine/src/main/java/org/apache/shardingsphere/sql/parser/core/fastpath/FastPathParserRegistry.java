@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Fast path parser registry.
+ */
+public final class FastPathParserRegistry {
+    
+    private static final FastPathParserRegistry INSTANCE = new FastPathParserRegistry();
+    
+    private final Map<String, FastPathParser> parsers = new LinkedHashMap<>();
+    
+    private FastPathParserRegistry() {
+        for (FastPathParser each : ServiceLoader.load(FastPathParser.class)) {
+            parsers.put(each.getDatabaseType(), each);
+        }
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static FastPathParserRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Find fast path parser.
+     *
+     * @param databaseType database type
+     * @return fast path parser, or empty if database type does not provide one
+     */
+    public Optional<FastPathParser> findFastPathParser(final String databaseType) {
+        return Optional.ofNullable(parsers.get(databaseType));
+    }
+}
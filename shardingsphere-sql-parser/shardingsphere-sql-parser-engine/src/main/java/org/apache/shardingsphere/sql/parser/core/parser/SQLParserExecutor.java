@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sql.parser.core.parser;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -42,15 +43,29 @@ public final class SQLParserExecutor {
      * @return parse tree
      */
     public ParseTree parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        return parse(SQLParserFactory.newInstance(databaseType, sql), sql);
+    }
+    
+    /**
+     * Parse SQL with token stream.
+     *
+     * @param tokenStream token stream of SQL
+     * @param sql SQL to be parsed
+     * @return parse tree
+     */
+    public ParseTree parse(final TokenStream tokenStream, final String sql) {
+        return parse(SQLParserFactory.newInstance(databaseType, tokenStream), sql);
+    }
+    
+    private ParseTree parse(final SQLParser sqlParser, final String sql) {
+        ParseASTNode result = twoPhaseParse(sqlParser);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException("Unsupported SQL of `%s`", sql);
         }
         return result.getRootNode();
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql);
+    private ParseASTNode twoPhaseParse(final SQLParser sqlParser) {
         try {
             setPredictionMode((Parser) sqlParser, PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -50,6 +50,29 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, sqlParserFacade.getLexerClass()), sqlParserFacade.getParserClass());
     }
     
+    /**
+     * New instance of SQL parser with token stream.
+     *
+     * @param databaseType database type
+     * @param tokenStream token stream
+     * @return SQL parser
+     */
+    public static SQLParser newInstance(final String databaseType, final TokenStream tokenStream) {
+        return createSQLParser(tokenStream, SQLParserFacadeRegistry.getInstance().getSQLParserFacade(databaseType).getParserClass());
+    }
+    
+    /**
+     * New instance of SQL lexer.
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return SQL lexer
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static Lexer newLexer(final String databaseType, final String sql) {
+        return (Lexer) SQLParserFacadeRegistry.getInstance().getSQLParserFacade(databaseType).getLexerClass().getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         return parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.List;
+
+/**
+ * Parse tree template.
+ *
+ * <p>
+ * Parse tree only depends on token types of SQL, so it can be reused by other SQL with same token types, such as SQL only differs in literals.
+ * Template is not thread safe, it should be bound and visited by one thread at the same time.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ParseTreeTemplate {
+    
+    private final List<BindableToken> tokens;
+    
+    @Getter
+    private final ParseTree parseTree;
+    
+    /**
+     * Bind parse tree to tokens of another SQL with same token types.
+     *
+     * @param tokens tokens of another SQL
+     * @return bound parse tree
+     */
+    public ParseTree bind(final List<BindableToken> tokens) {
+        for (int i = 0; i < tokens.size(); i++) {
+            this.tokens.get(i).bind(tokens.get(i));
+        }
+        return parseTree;
+    }
+}
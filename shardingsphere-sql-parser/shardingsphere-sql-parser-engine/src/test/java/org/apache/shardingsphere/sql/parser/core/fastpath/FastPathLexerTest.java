@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FastPathLexerTest {
+    
+    private final FastPathLexer lexer = new FastPathLexer('`');
+    
+    @Test
+    public void assertTokenize() {
+        Optional<List<FastPathToken>> actual = lexer.tokenize("SELECT * FROM `t_order` WHERE order_id=?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(9));
+        assertToken(actual.get().get(0), FastPathTokenType.WORD, "SELECT", 0, 5);
+        assertToken(actual.get().get(1), FastPathTokenType.ASTERISK, "*", 7, 7);
+        assertToken(actual.get().get(3), FastPathTokenType.QUOTED_IDENTIFIER, "`t_order`", 14, 22);
+        assertToken(actual.get().get(5), FastPathTokenType.WORD, "order_id", 30, 37);
+        assertToken(actual.get().get(6), FastPathTokenType.EQ, "=", 38, 38);
+        assertToken(actual.get().get(7), FastPathTokenType.QUESTION, "?", 39, 39);
+        assertToken(actual.get().get(8), FastPathTokenType.EOF, "", 40, 40);
+    }
+    
+    @Test
+    public void assertTokenizeWithLiteral() {
+        assertFalse(lexer.tokenize("SELECT * FROM t_order WHERE order_id = 1").isPresent());
+    }
+    
+    @Test
+    public void assertTokenizeWithUnclosedQuotedIdentifier() {
+        assertFalse(lexer.tokenize("SELECT * FROM `t_order").isPresent());
+    }
+    
+    @Test
+    public void assertTokenizeWithEmptyQuotedIdentifier() {
+        assertFalse(lexer.tokenize("SELECT * FROM ``").isPresent());
+    }
+    
+    private void assertToken(final FastPathToken actual, final FastPathTokenType type, final String text, final int startIndex, final int stopIndex) {
+        assertThat(actual.getType(), is(type));
+        assertThat(actual.getText(), is(text));
+        assertThat(actual.getStartIndex(), is(startIndex));
+        assertThat(actual.getStopIndex(), is(stopIndex));
+    }
+}
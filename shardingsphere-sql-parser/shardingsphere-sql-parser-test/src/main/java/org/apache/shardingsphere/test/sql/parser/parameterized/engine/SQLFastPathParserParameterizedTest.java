@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.sql.parser.parameterized.engine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RequiredArgsConstructor
+public abstract class SQLFastPathParserParameterizedTest {
+    
+    private final String databaseType;
+    
+    private final String sql;
+    
+    private final boolean recognized;
+    
+    @Test
+    public final void assertSameAsANTLRParser() {
+        Optional<SQLStatement> actual = new SQLFastPathParserEngine(databaseType).parse(sql);
+        assertThat(actual.isPresent(), is(recognized));
+        if (recognized) {
+            SQLStatement expected = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties()).visit(new SQLParserEngine(databaseType).parse(sql, false));
+            assertSameNode("statement", actual.get(), expected);
+        }
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private void assertSameNode(final String path, final Object actual, final Object expected) {
+        if (null == actual || null == expected) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        if (actual instanceof Collection) {
+            assertSameNodes(path, (Collection<?>) actual, (Collection<?>) expected);
+            return;
+        }
+        assertThat(path, actual.getClass().getName(), is(expected.getClass().getName()));
+        if (!actual.getClass().getName().startsWith("org.apache.shardingsphere.sql.parser.sql") || actual.getClass().isEnum()) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        for (Class<?> clazz = actual.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    each.setAccessible(true);
+                    assertSameNode(path + "." + each.getName(), each.get(actual), each.get(expected));
+                }
+            }
+        }
+    }
+    
+    private void assertSameNodes(final String path, final Collection<?> actual, final Collection<?> expected) {
+        assertThat(path + ".size", actual.size(), is(expected.size()));
+        Iterator<?> expectedIterator = expected.iterator();
+        int index = 0;
+        for (Object each : actual) {
+            assertSameNode(path + "[" + index++ + "]", each, expectedIterator.next());
+        }
+    }
+}
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.test.sql.parser.parameterized.engine;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLTemplateParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.test.sql.parser.parameterized.asserts.SQLCaseAssertContext;
@@ -35,7 +37,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.Assert.fail;
 
@@ -46,6 +51,8 @@ public abstract class SQLParserParameterizedTest {
     
     private static final SQLParserTestCasesRegistry SQL_PARSER_TEST_CASES_REGISTRY = SQLParserTestCasesRegistryFactory.getInstance().getRegistry();
     
+    private static final Map<String, SQLTemplateParserEngine> TEMPLATE_PARSER_ENGINES = new ConcurrentHashMap<>();
+    
     private final String sqlCaseId;
     
     private final String databaseType;
@@ -84,6 +91,28 @@ public abstract class SQLParserParameterizedTest {
         SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), actual, expected);
     }
     
+    @Test
+    public final void assertFastPathParsedSQL() {
+        SQLParserTestCase expected = SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId);
+        String databaseType = "H2".equals(this.databaseType) ? "MySQL" : this.databaseType;
+        String sql = SQL_CASES_LOADER.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters());
+        Optional<SQLStatement> actual = new SQLFastPathParserEngine(databaseType).parse(sql);
+        if (actual.isPresent()) {
+            SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), actual.get(), expected);
+        }
+    }
+    
+    @Test
+    public final void assertTemplateParsedSQL() {
+        SQLParserTestCase expected = SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId);
+        String databaseType = "H2".equals(this.databaseType) ? "MySQL" : this.databaseType;
+        String sql = SQL_CASES_LOADER.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters());
+        SQLTemplateParserEngine templateParserEngine = TEMPLATE_PARSER_ENGINES.computeIfAbsent(databaseType, SQLTemplateParserEngine::new);
+        SQLVisitorEngine visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
+        SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), templateParserEngine.parse(sql, visitorEngine::visit), expected);
+        SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sqlCaseType), templateParserEngine.parse(sql, visitorEngine::visit), expected);
+    }
+    
     private SQLStatement parseSQLStatement(final String databaseType, final String sql) {
         return new SQLVisitorEngine(databaseType, "STATEMENT", new Properties()).visit(new SQLParserEngine(databaseType).parse(sql, false));
     }